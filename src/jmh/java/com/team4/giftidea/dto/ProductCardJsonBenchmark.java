@@ -0,0 +1,55 @@
+package com.team4.giftidea.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 300개 추천 응답 직렬화: 리플렉션 직렬화와 미리 인코딩한 {@link ProductCardJson} 비교
+ * 실행: ./gradlew jmh -PjmhInclude=ProductCardJsonBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductCardJsonBenchmark {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private RecommendationResponseDTO preEncoded;
+	private Response reflected;
+
+	@Setup
+	public void setUp() {
+		List<ProductCardDTO> cards = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			cards.add(new ProductCardDTO("p" + i, "상품 \"" + i + "\"", 10_000 + i,
+				"https://image.example.com/" + i + ".jpg", "https://link.example.com/products/" + i,
+				i % 2 == 0 ? "Coupang" : "Kream", "브랜드" + i, 10_000 + i, 1));
+		}
+		List<ProductCardJson> fragments = cards.stream().map(card -> ProductCardJson.encode(objectMapper, card)).toList();
+		preEncoded = new RecommendationResponseDTO(fragments, List.of());
+		reflected = new Response(cards, List.of());
+	}
+
+	@Benchmark
+	public byte[] reflection() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(reflected);
+	}
+
+	@Benchmark
+	public byte[] preEncoded() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(preEncoded);
+	}
+
+	public record Response(List<ProductCardDTO> product, List<ReasonDTO> reason) {
+	}
+}
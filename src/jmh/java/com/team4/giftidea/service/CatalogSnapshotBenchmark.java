@@ -0,0 +1,73 @@
+package com.team4.giftidea.service;
+
+import com.team4.giftidea.entity.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카탈로그 스냅샷 파일 읽기 (기동 시 DB 대신 스냅샷으로 인덱스를 만들 때의 로딩 시간)
+ * 실행: ./gradlew jmh -PjmhInclude=CatalogSnapshotBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CatalogSnapshotBenchmark {
+
+	private static final List<String> KEYWORDS = List.of("향수", "무선이어폰", "남성 지갑", "텀블러", "백팩");
+	private static final List<String> MALLS = List.of("Coupang", "Kream");
+
+	@Param({"20000", "200000"})
+	public int catalog;
+
+	private Path file;
+
+	@Setup
+	public void setUp() throws IOException {
+		Random random = new Random(11);
+		List<Product> products = new ArrayList<>(catalog);
+		List<CatalogSnapshot.Link> links = new ArrayList<>();
+		for (long id = 1; id <= catalog; id++) {
+			Product product = new Product();
+			product.setId(id * 3);
+			product.setProductId("p-" + id);
+			product.setTitle("선물 상품 " + id + " 스페셜 에디션");
+			product.setPrice(1_000 * (1 + random.nextInt(500)));
+			product.setImage("https://image.example.com/products/" + id + ".jpg");
+			product.setMallName(MALLS.get(random.nextInt(MALLS.size())));
+			product.setLink("https://www.example.com/vp/products/" + id + "?itemId=" + (id * 7));
+			product.setBrand(random.nextInt(4) == 0 ? null : "브랜드" + random.nextInt(50));
+			product.setCategory(random.nextBoolean() ? null : "패션잡화");
+			product.setKeyword(KEYWORDS.get(random.nextInt(KEYWORDS.size())));
+			product.setSimhash(random.nextLong());
+			products.add(product);
+			links.add(new CatalogSnapshot.Link(product.getId(), product.getKeyword()));
+		}
+		file = Files.createTempFile("catalog", ".snapshot");
+		CatalogSnapshot.write(file, products, links);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	@Benchmark
+	public CatalogSnapshot read() throws IOException {
+		return CatalogSnapshot.read(file);
+	}
+}
@@ -0,0 +1,65 @@
+package com.team4.giftidea.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대화 줄 정규화: 기존 정규식 구현과 {@link ChatLineNormalizer} 비교
+ * 실행: ./gradlew jmh -PjmhInclude=ChatLineNormalizerBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChatLineNormalizerBenchmark {
+
+	private static final String TARGET = "민수";
+
+	private List<String> lines;
+
+	@Setup
+	public void setUp() {
+		String[] words = {"오늘", "향수", "사고싶다", "ㅋㅋㅋ", "ㅎㅎ", "...", "[사진]", "이어폰", "  ", "\t", "진짜.", "ㅋ", "[링크] [미리보기] "};
+		Random random = new Random(42);
+		lines = new ArrayList<>(200_000);
+		for (int i = 0; i < 200_000; i++) {
+			StringBuilder sb = new StringBuilder();
+			sb.append('[').append(TARGET).append("] [오후 ").append(random.nextInt(12) + 1).append(':')
+				.append(random.nextInt(50) + 10).append("] ");
+			int wordCount = random.nextInt(12);
+			for (int w = 0; w < wordCount; w++) {
+				sb.append(words[random.nextInt(words.length)]);
+				if (random.nextBoolean()) {
+					sb.append(' ');
+				}
+			}
+			lines.add(sb.toString());
+		}
+	}
+
+	@Benchmark
+	public void legacyRegex(Blackhole blackhole) {
+		for (String line : lines) {
+			blackhole.consume(line.replaceAll("\\[.*?\\] \\[.*?\\] ", "")
+				.replaceAll("[ㅎㅋ.]+", "").trim());
+		}
+	}
+
+	@Benchmark
+	public void normalizer(Blackhole blackhole) {
+		ChatLineNormalizer normalizer = new ChatLineNormalizer(ChatLineNormalizer.FORMAT_PC, TARGET);
+		for (String line : lines) {
+			blackhole.consume(normalizer.normalize(line));
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.team4.giftidea.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GPT 카테고리 → 저장 키워드 매칭 한 건의 지연 시간
+ * 실행: ./gradlew jmh -PjmhInclude=KeywordMatcherBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeywordMatcherBenchmark {
+
+	private final KeywordMatcher matcher = new KeywordMatcher(List.of(
+		"안마기기", "무선이어폰", "스마트워치", "등산용품", "스마트폰", "맨투맨", "마우스",
+		"키보드", "게임기", "전기면도기", "현금 박스", "아버지 신발", "어머니 신발", "건강식품", "헬스가방", "핸드크림", "디퓨저",
+		"오설록 티세트", "휴지", "초콜릿", "수제 초콜릿 키트", "파자마세트", "남자 화장품", "에어랩",
+		"무드등", "수건", "전기포트", "에어프라이기", "비타민", "입욕제", "블루투스 스피커", "와인",
+		"남성 지갑", "남성 스니커즈", "백팩", "토트백", "크로스백", "벨트",
+		"선글라스", "향수", "여성 지갑", "여성 스니커즈", "숄더백", "목걸이",
+		"텀블러", "립밤", "립스틱", "조명", "핸드워시", "식기", "머플러", "시계", "스카프", "핸드백"));
+
+	private final List<String> queries = List.of(
+		"무선 이어폰", "남자 지갑", "향수", "에어 프라이어", "니치 향수", "캔버스 토트백", "꽃다발", "캠핑 의자");
+
+	@Benchmark
+	public void match(Blackhole blackhole) {
+		for (String query : queries) {
+			blackhole.consume(matcher.match(query, 1));
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.team4.giftidea.service;
+
+import com.team4.giftidea.entity.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 상품 1M개 카탈로그에서 추천 근거와 가장 유사한 상품 top-10 찾기
+ * 키워드 하나의 후보(약 1,000개)를 훑는 경우와 카탈로그 전체를 훑는 경우를 측정합니다.
+ * 행렬이 오프힙 512MB를 사용하므로 직접 메모리 한도를 늘려 실행합니다.
+ * 실행: ./gradlew jmh -PjmhInclude=ProductVectorIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "-XX:MaxDirectMemorySize=1g"})
+public class ProductVectorIndexBenchmark {
+
+	private static final String[] WORDS = {
+		"무선", "블루투스", "이어폰", "노이즈캔슬링", "향수", "우드", "머스크", "가죽", "지갑", "남성", "여성", "스니커즈",
+		"텀블러", "스테인리스", "보온", "캠핑", "선물세트", "프리미엄", "미니", "대용량", "초콜릿", "수제", "와인", "레드"
+	};
+
+	@Param("1000000")
+	public int catalog;
+
+	@Param("1000")
+	public int candidatesPerKeyword;
+
+	private ProductVectorIndex index;
+	private int[] keywordCandidates;
+	private int[] allRows;
+	private final float[] query = new float[ProductVectorIndex.DIMENSIONS];
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(17);
+		Product[] products = new Product[catalog];
+		for (int i = 0; i < catalog; i++) {
+			StringBuilder title = new StringBuilder();
+			for (int w = 0; w < 6; w++) {
+				title.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+			}
+			Product product = new Product();
+			product.setTitle(title.toString());
+			products[i] = product;
+		}
+		index = new ProductVectorIndex(products);
+		keywordCandidates = random.ints(candidatesPerKeyword, 0, catalog).toArray();
+		allRows = IntStream.range(0, catalog).toArray();
+		ProductVectorIndex.embed("캠핑 좋아해서 보온 텀블러 대용량으로 찾는 중", query);
+	}
+
+	@Benchmark
+	public int[] topKWithinKeyword() {
+		return index.topK(keywordCandidates, 0, keywordCandidates.length, query, 10, null);
+	}
+
+	@Benchmark
+	public int[] topKFullCatalog() {
+		return index.topK(allRows, 0, allRows.length, query, 10, null);
+	}
+}
@@ -0,0 +1,61 @@
+package com.team4.giftidea.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대화 줄 토큰 계산: 공백 기준 개수와 BPE(gpt-4o) 토크나이저 비교
+ * 실행: ./gradlew jmh -PjmhInclude=TokenCounterBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenCounterBenchmark {
+
+	private final TokenCounter tokenCounter = new TokenCounter("gpt-4o");
+	private List<String> lines;
+
+	@Setup
+	public void setUp() {
+		String[] words = {"응", "ㅇㅇ", "오늘", "향수", "사고싶다", "무선이어폰", "고장났어", "다음주에", "생일이야",
+			"진짜", "대박", "회사", "끝나고", "저녁", "먹자", "스마트워치", "갖고", "싶어"};
+		Random random = new Random(11);
+		lines = new ArrayList<>(200_000);
+		for (int i = 0; i < 200_000; i++) {
+			StringBuilder sb = new StringBuilder();
+			int wordCount = 1 + random.nextInt(random.nextInt(4) == 0 ? 12 : 2);
+			for (int w = 0; w < wordCount; w++) {
+				if (w > 0) {
+					sb.append(' ');
+				}
+				sb.append(words[random.nextInt(words.length)]);
+			}
+			lines.add(sb.toString());
+		}
+	}
+
+	@Benchmark
+	public void wordCount(Blackhole blackhole) {
+		for (String line : lines) {
+			blackhole.consume(ChatLineNormalizer.countTokens(line));
+		}
+	}
+
+	@Benchmark
+	public void bpe(Blackhole blackhole) {
+		for (String line : lines) {
+			blackhole.consume(tokenCounter.count(line));
+		}
+	}
+}
@@ -1,10 +1,29 @@
 package com.team4.giftidea.configuration;
 
+import io.netty.channel.ChannelOption;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 /**
  * OpenAI API 연동을 위한 설정 클래스
@@ -22,14 +41,56 @@ public class GptConfig {
     @Value("${openai.api.url}")
     private String apiUrl;
 
+    @Value("${openai.client.max-connections:20}")
+    private int maxConnections;
+
+    @Value("${openai.client.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    @Value("${openai.client.read-timeout:30s}")
+    private Duration readTimeout;
+
+    @Value("${openai.client.pool-timeout:2s}")
+    private Duration poolTimeout;
+
+    /**
+     * OpenAI API 호출용 keep-alive 커넥션 풀
+     *
+     * @return 연결/소켓 제한 시간이 설정된 커넥션 풀
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager gptConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnections)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(readTimeout))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                .setTimeToLive(TimeValue.ofMinutes(5))
+                .build())
+            .build();
+    }
+
     /**
      * OpenAI API 요청을 위한 RestTemplate 빈 생성
      *
+     * @param gptConnectionManager OpenAI API 호출용 커넥션 풀
      * @return OpenAI API 호출을 위한 RestTemplate
      */
     @Bean
-    public RestTemplate restTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
+    public RestTemplate gptRestTemplate(PoolingHttpClientConnectionManager gptConnectionManager) {
+        CloseableHttpClient httpClient = HttpClients.custom()
+            .setConnectionManager(gptConnectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(poolTimeout))
+                .setResponseTimeout(Timeout.of(readTimeout))
+                .build())
+            .evictIdleConnections(TimeValue.ofSeconds(30))
+            .disableAutomaticRetries() // 재시도는 GptClient에서 지터를 적용하여 처리
+            .build();
+
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
         restTemplate.getInterceptors().add((request, body, execution) -> {
             String authHeader = "Bearer " + openAiKey;
             request.getHeaders().add("Authorization", authHeader);
@@ -39,6 +100,33 @@ public class GptConfig {
         return restTemplate;
     }
 
+    /**
+     * OpenAI 스트리밍 응답(server-sent events)을 받기 위한 WebClient 빈 생성
+     * HTTP/2를 우선 협상하며, 커넥션 풀 크기와 연결/응답 제한 시간은 RestTemplate과 같은 설정을 사용합니다.
+     *
+     * @param builder Spring Boot가 구성한 WebClient 빌더
+     * @return OpenAI API 스트리밍 호출을 위한 WebClient
+     */
+    @Bean
+    public WebClient gptWebClient(WebClient.Builder builder) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("gpt")
+            .maxConnections(maxConnections)
+            .pendingAcquireTimeout(poolTimeout)
+            .maxIdleTime(Duration.ofSeconds(30))
+            .metrics(true)
+            .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+            .responseTimeout(readTimeout);
+
+        return builder
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + openAiKey)
+            .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .build();
+    }
+
     public String getModel() {
         return model;
     }
@@ -46,4 +134,4 @@ public class GptConfig {
     public String getApiUrl() {
         return apiUrl;
     }
-}
\ No newline at end of file
+}
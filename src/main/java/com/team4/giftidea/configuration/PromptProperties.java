@@ -0,0 +1,62 @@
+package com.team4.giftidea.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GPT 프롬프트 템플릿 설정 클래스 (prompts.yml의 openai.prompt)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "openai.prompt")
+public class PromptProperties {
+
+	/**
+	 * 모든 프롬프트의 맨 앞에 오는 고정 지시문
+	 */
+	private String common = "";
+
+	/**
+	 * 모든 프롬프트의 맨 뒤에 오는 요청별 가변 영역 ({theme}, {message} 치환)
+	 */
+	private String suffix = "";
+
+	/**
+	 * 조건별 템플릿 목록 (위에서부터 순서대로 비교)
+	 */
+	private List<Template> templates = new ArrayList<>();
+
+	/**
+	 * 관계/성별/주제 조건과 해당 조건의 지시문
+	 */
+	@Getter
+	@Setter
+	public static class Template {
+
+		/**
+		 * 대상과의 관계 (비어 있으면 모든 관계와 일치)
+		 */
+		private String relation;
+
+		/**
+		 * 대상 성별 (비어 있으면 모든 성별과 일치)
+		 */
+		private String sex;
+
+		/**
+		 * 선물 주제 (비어 있으면 모든 주제와 일치)
+		 */
+		private String theme;
+
+		/**
+		 * 대상 정보와 카테고리 목록 등 조건별 지시문
+		 */
+		private String body = "";
+	}
+}
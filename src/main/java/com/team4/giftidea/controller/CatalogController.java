@@ -0,0 +1,72 @@
+package com.team4.giftidea.controller;
+
+import com.team4.giftidea.dto.CatalogPageDTO;
+import com.team4.giftidea.dto.ProductSearchCondition;
+import com.team4.giftidea.service.ProductIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 대화 파일 없이 키워드별 상품 목록을 조회하는 읽기 전용 API
+ * 응답에는 카탈로그 버전으로 만든 약한 ETag와 Cache-Control 헤더가 붙어, 브라우저와 CDN이 크롤링 전까지 재사용할 수 있습니다.
+ */
+@Tag(name = "🛍️ 상품 카탈로그 API", description = "키워드별 상품 목록 조회")
+@RestController
+@RequestMapping("/api/catalog")
+public class CatalogController {
+
+	private final ProductIndex productIndex;
+	private final CacheControl cacheControl;
+
+	/**
+	 * @param maxAge               브라우저/CDN이 다시 확인하지 않고 사용할 시간
+	 * @param staleWhileRevalidate 만료 후 백그라운드 재검증 동안 이전 응답을 사용할 수 있는 시간
+	 */
+	public CatalogController(
+		ProductIndex productIndex,
+		@Value("${catalog.cache.max-age:5m}") Duration maxAge,
+		@Value("${catalog.cache.stale-while-revalidate:1h}") Duration staleWhileRevalidate) {
+		this.productIndex = productIndex;
+		this.cacheControl = CacheControl.maxAge(maxAge).cachePublic().staleWhileRevalidate(staleWhileRevalidate);
+	}
+
+	/**
+	 * 키워드의 상품을 최근 저장 순으로 한 페이지씩 반환합니다.
+	 * If-None-Match가 현재 ETag와 같으면 본문 없이 304를 반환합니다.
+	 */
+	@Operation(summary = "키워드별 상품 목록", description = "키워드와 가장 가까운 저장 키워드의 상품을 커서 기반 페이지로 반환합니다.")
+	@GetMapping
+	public ResponseEntity<CatalogPageDTO> browse(
+		@Parameter(description = "검색 키워드", required = true) @RequestParam String keyword,
+		@Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) Long cursor,
+		@Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "20") int size,
+		WebRequest request) {
+		int pageSize = Math.clamp(size, 1, ProductSearchCondition.MAX_LIMIT);
+		ProductIndex.CatalogPage page = productIndex.browse(keyword, cursor, pageSize)
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "상품 목록을 준비 중입니다."));
+
+		// 강한 ETag가 붙은 응답은 Tomcat이 gzip 압축하지 않으므로 약한 ETag 사용
+		String etag = "W/\"" + page.version() + "-"
+			+ Integer.toHexString(Objects.hash(page.keyword(), cursor, pageSize)) + "\"";
+		if (request.checkNotModified(etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+		}
+		CatalogPageDTO body = new CatalogPageDTO(page.keyword(),
+			page.hits().stream().map(ProductIndex.Hit::card).toList(), page.nextCursor());
+		return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(body);
+	}
+}
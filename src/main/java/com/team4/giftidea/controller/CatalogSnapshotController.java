@@ -0,0 +1,38 @@
+package com.team4.giftidea.controller;
+
+import com.team4.giftidea.service.CatalogSnapshotService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 카탈로그 스냅샷 파일을 내보내고 불러오는 관리자 API
+ * DB와 메모리 인덱스를 통째로 바꿀 수 있으므로 인증이 필요한 /admin/** 경로에 둡니다.
+ */
+@RestController
+@RequestMapping("/admin/products/snapshot")
+public class CatalogSnapshotController {
+
+	private final CatalogSnapshotService catalogSnapshotService;
+
+	public CatalogSnapshotController(CatalogSnapshotService catalogSnapshotService) {
+		this.catalogSnapshotService = catalogSnapshotService;
+	}
+
+	/**
+	 * 현재 DB의 카탈로그를 스냅샷 파일(product.snapshot.path)로 내보내는 엔드포인트
+	 */
+	@PostMapping
+	public CatalogSnapshotService.Summary exportSnapshot() {
+		return catalogSnapshotService.export();
+	}
+
+	/**
+	 * 스냅샷 파일로 메모리 인덱스를 교체하고, seedDb=true이면 DB에도 채우는 엔드포인트
+	 */
+	@PostMapping("/load")
+	public CatalogSnapshotService.Summary loadSnapshot(@RequestParam(defaultValue = "false") boolean seedDb) {
+		return catalogSnapshotService.load(seedDb);
+	}
+}
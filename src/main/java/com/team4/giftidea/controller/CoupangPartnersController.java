@@ -1,6 +1,7 @@
 package com.team4.giftidea.controller;
 
 import com.team4.giftidea.service.CoupangPartnersService;
+import com.team4.giftidea.service.ProductIndex;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -9,9 +10,11 @@ import org.springframework.web.bind.annotation.*;
 public class CoupangPartnersController {
 
 	private final CoupangPartnersService coupangPartnersService;
+	private final ProductIndex productIndex;
 
-	public CoupangPartnersController(CoupangPartnersService coupangPartnersService) {
+	public CoupangPartnersController(CoupangPartnersService coupangPartnersService, ProductIndex productIndex) {
 		this.coupangPartnersService = coupangPartnersService;
+		this.productIndex = productIndex;
 	}
 
 	/**
@@ -20,6 +23,8 @@ public class CoupangPartnersController {
 	@PostMapping("/update-all")
 	public ResponseEntity<String> updateAllCoupangProductLinks() {
 		int updatedCount = coupangPartnersService.updateAllCoupangProductLinks();
+		// 트랜잭션이 커밋된 뒤에 인덱스를 교체해야 변경된 링크가 반영됨
+		productIndex.rebuild();
 		return ResponseEntity.ok(updatedCount + "개의 쿠팡 상품이 업데이트되었습니다.");
 	}
 }
\ No newline at end of file
@@ -1,38 +1,39 @@
 package com.team4.giftidea.controller;
 
-import com.team4.giftidea.entity.Product;
-import com.team4.giftidea.service.CoupangApiService;
-import com.team4.giftidea.service.KreamApiService;
-import com.team4.giftidea.service.ProductService;
+import com.team4.giftidea.service.CrawlScheduler;
+import com.team4.giftidea.service.ProductIndex;
+import com.team4.giftidea.service.StaleProductSweeper;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/ products")
 public class ProductController {
-	private final CoupangApiService coupangApiService;
-	private final ProductService productService;
-	private final KreamApiService kreamApiService;
+	private final CrawlScheduler crawlScheduler;
+	private final ProductIndex productIndex;
+	private final StaleProductSweeper staleProductSweeper;
 
 	public ProductController(
-		CoupangApiService coupangApiService,
-		KreamApiService kreamApiService,
-		ProductService productService) {
-		this.coupangApiService = coupangApiService;
-		this.kreamApiService = kreamApiService;
-		this.productService = productService;
+		CrawlScheduler crawlScheduler,
+		ProductIndex productIndex,
+		StaleProductSweeper staleProductSweeper) {
+		this.crawlScheduler = crawlScheduler;
+		this.productIndex = productIndex;
+		this.staleProductSweeper = staleProductSweeper;
 	}
 
 	/**
 	 * 상품 정보를 크롤링하고 데이터베이스에 저장하는 엔드포인트
+	 * 쿠팡과 Kream을 동시에 크롤링하고, 최근 크롤링에서 수집되지 않은 상품을 만료한 뒤 키워드별 소요 시간 보고서를 반환합니다.
 	 */
 	@GetMapping("/crawl")
-	public void crawlAndStoreData() {
+	public CrawlScheduler.CrawlReport crawlAndStoreData() {
 		log.info("🔍 크롤링 시작...");
 
 		// 쿠팡 키워드 목록
@@ -50,37 +51,14 @@ public class ProductController {
 			"텀블러", "립밤", "립스틱", "조명", "핸드워시", "식기", "머플러", "시계", "스카프", "핸드백"
 		);
 
-		log.info("📢 네이버 크롤링 시작...");
-
-		log.info("📢 쿠팡 크롤링 시작...");
-		coupangKeywords.forEach(keyword -> {
-			log.debug("🔎 쿠팡 검색 키워드: {}", keyword);
-			List<Product> coupangProducts = coupangApiService.searchItems(keyword);
-			log.info("✅ 쿠팡 크롤링 완료 (키워드: {}, 검색 결과: {} 개)", keyword, coupangProducts.size());
-
-			if (!coupangProducts.isEmpty()) {
-				productService.saveItems(coupangProducts, keyword);
-				log.info("✅ 쿠팡 상품 저장 완료 (키워드: {}, 저장된 개수: {})", keyword, coupangProducts.size());
-			} else {
-				log.warn("⚠️ 쿠팡 크롤링 실패 또는 검색 결과 없음 (키워드: {})", keyword);
-			}
-		});
-
-		log.info("📢 Kream 크롤링 시작...");
-		kreamKeywords.forEach(keyword -> {
-			log.debug("🔎 Kream 검색 키워드: {}", keyword);
-			List<Product> kreamProducts = kreamApiService.searchItems(keyword);
-			log.info("✅ Kream 크롤링 완료 (키워드: {}, 검색 결과: {} 개)", keyword, kreamProducts.size());
-
-			if (!kreamProducts.isEmpty()) {
-				productService.saveItems(kreamProducts, keyword);
-				log.info("✅ Kream 상품 저장 완료 (키워드: {}, 저장된 개수: {})", keyword, kreamProducts.size());
-			} else {
-				log.warn("⚠️ Kream 크롤링 실패 또는 검색 결과 없음 (키워드: {})", keyword);
-			}
-		});
+		CrawlScheduler.CrawlReport report = crawlScheduler.crawl(Map.of(
+			"coupang", coupangKeywords,
+			"kream", kreamKeywords));
 
+		staleProductSweeper.afterCrawl(report);
+		productIndex.rebuild();
 		log.info("🎯 크롤링 및 저장 작업 완료!");
+		return report;
 	}
 
 	@Scheduled(cron = "0 5 1 * * *")
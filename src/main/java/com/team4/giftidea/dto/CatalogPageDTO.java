@@ -0,0 +1,29 @@
+package com.team4.giftidea.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 키워드별 상품 목록 한 페이지를 담는 응답 DTO 클래스
+ */
+@Getter
+@AllArgsConstructor
+public class CatalogPageDTO {
+
+	/**
+	 * 요청 키워드와 연결된 저장 키워드 (연결된 키워드가 없으면 null)
+	 */
+	private final String keyword;
+
+	/**
+	 * 최근 저장 순 상품 (미리 인코딩된 JSON 조각)
+	 */
+	private final List<ProductCardJson> product;
+
+	/**
+	 * 다음 페이지 요청에 사용할 커서 (마지막 페이지면 null)
+	 */
+	private final Long nextCursor;
+}
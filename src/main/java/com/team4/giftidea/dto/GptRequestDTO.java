@@ -1,5 +1,6 @@
 package com.team4.giftidea.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 import java.util.ArrayList;
@@ -26,6 +27,12 @@ public class GptRequestDTO {
      */
     private int max_tokens;  // 🔥 추가된 필드
 
+    /**
+     * 스트리밍 응답(server-sent events) 여부 (null이면 요청에 포함하지 않음)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean stream;
+
     /**
      * 생성자 - 주어진 모델과 프롬프트를 기반으로 GPT 요청을 생성합니다.
      *
@@ -39,4 +46,17 @@ public class GptRequestDTO {
         this.messages.add(new MessageDTO("user", prompt));
         this.max_tokens = max_tokens;
     }
-}
\ No newline at end of file
+
+    /**
+     * 생성자 - 스트리밍 여부를 지정하여 GPT 요청을 생성합니다.
+     *
+     * @param model  사용할 GPT 모델
+     * @param prompt 사용자 입력 프롬프트
+     * @param max_tokens 최대 토큰 제한
+     * @param stream 스트리밍 응답 여부
+     */
+    public GptRequestDTO(String model, String prompt, int max_tokens, boolean stream) {
+        this(model, prompt, max_tokens);
+        this.stream = stream;
+    }
+}
@@ -0,0 +1,50 @@
+package com.team4.giftidea.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * GPT 스트리밍 응답(stream=true)의 개별 청크를 담는 DTO 클래스
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GptStreamChunkDTO {
+
+    /**
+     * 청크의 선택지 리스트
+     */
+    private List<Choice> choices;
+
+    /**
+     * 개별 선택지의 증분 내용을 나타내는 내부 클래스
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Choice {
+
+        /**
+         * 선택지 인덱스
+         */
+        private int index;
+
+        /**
+         * 이번 청크에서 추가된 메시지 내용
+         */
+        private MessageDTO delta;
+
+        /**
+         * 생성 종료 사유 (마지막 청크에만 존재)
+         */
+        @JsonProperty("finish_reason")
+        private String finishReason;
+    }
+}
@@ -0,0 +1,78 @@
+package com.team4.giftidea.dto;
+
+import com.team4.giftidea.entity.Product;
+import com.team4.giftidea.repository.ProductSummary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 추천 결과 화면에 표시할 상품 정보만 담는 응답 DTO 클래스
+ */
+@Getter
+@AllArgsConstructor
+public class ProductCardDTO {
+
+	/**
+	 * 상품 고유 ID
+	 */
+	private final String productId;
+
+	/**
+	 * 상품명
+	 */
+	private final String title;
+
+	/**
+	 * 상품 가격
+	 */
+	private final Integer price;
+
+	/**
+	 * 상품 이미지 URL
+	 */
+	private final String image;
+
+	/**
+	 * 상품 상세 페이지 링크
+	 */
+	private final String link;
+
+	/**
+	 * 쇼핑몰 이름
+	 */
+	private final String mallName;
+
+	/**
+	 * 브랜드명
+	 */
+	private final String brand;
+
+	/**
+	 * 같은 상품으로 묶인 판매처(대표 상품 포함) 중 최저가
+	 */
+	private final Integer minPrice;
+
+	/**
+	 * 같은 상품으로 묶인 판매처 수 (대표 상품 포함, 다른 판매처가 없으면 1)
+	 */
+	private final int offerCount;
+
+	public static ProductCardDTO from(Product product) {
+		return from(product, product.getPrice(), 1);
+	}
+
+	/**
+	 * @param product    대표 상품
+	 * @param minPrice   대표 상품과 대체 판매처 중 최저가
+	 * @param offerCount 대표 상품을 포함한 판매처 수
+	 */
+	public static ProductCardDTO from(Product product, Integer minPrice, int offerCount) {
+		return new ProductCardDTO(product.getProductId(), product.getTitle(), product.getPrice(), product.getImage(),
+			product.getLink(), product.getMallName(), product.getBrand(), minPrice, offerCount);
+	}
+
+	public static ProductCardDTO from(ProductSummary summary) {
+		return new ProductCardDTO(summary.getProductId(), summary.getTitle(), summary.getPrice(), summary.getImage(),
+			summary.getLink(), summary.getMallName(), summary.getBrand(), summary.getMinPrice(), summary.getOfferCount());
+	}
+}
@@ -0,0 +1,64 @@
+package com.team4.giftidea.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * UTF-8 바이트로 미리 인코딩해 둔 상품 카드 JSON 조각
+ * 응답을 쓸 때 리플렉션 직렬화 없이 JsonGenerator의 출력 버퍼로 바이트를 그대로 복사합니다.
+ */
+public final class ProductCardJson implements JsonSerializable {
+
+	private final SerializedString json;
+
+	private ProductCardJson(SerializedString json) {
+		this.json = json;
+	}
+
+	/**
+	 * 상품 카드를 JSON으로 인코딩하고 UTF-8 바이트를 미리 계산해 둡니다.
+	 *
+	 * @param objectMapper 인코딩에 사용할 ObjectMapper
+	 * @param card         상품 카드
+	 * @return 인코딩된 JSON 조각
+	 */
+	public static ProductCardJson encode(ObjectMapper objectMapper, ProductCardDTO card) {
+		try {
+			SerializedString json = new SerializedString(objectMapper.writeValueAsString(card));
+			json.asUnquotedUTF8(); // 바이트 배열을 미리 만들어 캐시
+			return new ProductCardJson(json);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("상품 JSON 인코딩 실패: " + card.getProductId(), e);
+		}
+	}
+
+	/**
+	 * @return 인코딩된 JSON의 UTF-8 바이트 수
+	 */
+	public int byteLength() {
+		return json.asUnquotedUTF8().length;
+	}
+
+	@Override
+	public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		gen.writeRawValue(json);
+	}
+
+	@Override
+	public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+		throws IOException {
+		serialize(gen, serializers);
+	}
+
+	@Override
+	public String toString() {
+		return json.getValue();
+	}
+}
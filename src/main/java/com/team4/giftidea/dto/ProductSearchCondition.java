@@ -0,0 +1,36 @@
+package com.team4.giftidea.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 추천 상품 조회 조건
+ *
+ * @param limit    키워드당 최대 상품 수
+ * @param sort     키워드 안의 정렬 기준
+ * @param minPrice 최소 가격 (포함)
+ * @param maxPrice 최대 가격 (포함)
+ */
+public record ProductSearchCondition(int limit, ProductSort sort, int minPrice, int maxPrice) {
+
+	/** 키워드당 반환할 수 있는 최대 상품 수 */
+	public static final int MAX_LIMIT = 50;
+
+	/**
+	 * 요청 파라미터를 검증하고 기본값을 채워 조회 조건을 만듭니다.
+	 *
+	 * @param limit    키워드당 최대 상품 수 (1 ~ MAX_LIMIT로 보정)
+	 * @param sort     정렬 기준 이름
+	 * @param minPrice 최소 가격 (없으면 0)
+	 * @param maxPrice 최대 가격 (없으면 제한 없음)
+	 * @return 조회 조건
+	 */
+	public static ProductSearchCondition of(int limit, String sort, Integer minPrice, Integer maxPrice) {
+		int min = minPrice == null ? 0 : Math.max(0, minPrice);
+		int max = maxPrice == null ? Integer.MAX_VALUE : maxPrice;
+		if (min > max) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "최소 가격이 최대 가격보다 클 수 없습니다.");
+		}
+		return new ProductSearchCondition(Math.clamp(limit, 1, MAX_LIMIT), ProductSort.from(sort), min, max);
+	}
+}
@@ -0,0 +1,63 @@
+package com.team4.giftidea.dto;
+
+import com.team4.giftidea.entity.Product;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Comparator;
+
+/**
+ * 키워드별 상품 목록의 정렬 기준
+ * 같은 값이면 최근에 저장된 상품(id가 큰 상품)이 먼저 옵니다.
+ */
+public enum ProductSort {
+
+	/** 낮은 가격 순 */
+	PRICE("price", Comparator.comparing(Product::getPrice, Comparator.nullsLast(Comparator.naturalOrder()))),
+
+	/** 최근 저장 순 */
+	RECENCY("recency", (a, b) -> 0),
+
+	/** 판매처 이름 순 */
+	MALL("mall", Comparator.comparing(Product::getMallName, Comparator.nullsLast(Comparator.naturalOrder()))),
+
+	/** 추천 근거와 상품 텍스트의 유사도 순 (메모리 인덱스 준비 전에는 최근 저장 순) */
+	RELEVANCE("relevance", (a, b) -> 0);
+
+	private final String value;
+	private final Comparator<Product> comparator;
+
+	ProductSort(String value, Comparator<Product> primary) {
+		this.value = value;
+		this.comparator = primary.thenComparing(Product::getId, Comparator.reverseOrder());
+	}
+
+	/**
+	 * @return 네이티브 쿼리의 정렬 파라미터 값
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	/**
+	 * @return 메모리 인덱스에서 사용할 정렬 기준
+	 */
+	public Comparator<Product> comparator() {
+		return comparator;
+	}
+
+	/**
+	 * 요청 파라미터를 정렬 기준으로 변환합니다.
+	 *
+	 * @param value price, recency, mall, relevance 중 하나 (대소문자 무시)
+	 * @return 정렬 기준
+	 */
+	public static ProductSort from(String value) {
+		for (ProductSort sort : values()) {
+			if (sort.value.equalsIgnoreCase(value)) {
+				return sort;
+			}
+		}
+		throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 정렬 기준입니다: " + value);
+	}
+}
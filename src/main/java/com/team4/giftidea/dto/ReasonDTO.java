@@ -0,0 +1,22 @@
+package com.team4.giftidea.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 추천 키워드와 추천 근거를 담는 응답 DTO 클래스
+ */
+@Getter
+@AllArgsConstructor
+public class ReasonDTO {
+
+	/**
+	 * 추천 키워드
+	 */
+	private final String keyword;
+
+	/**
+	 * 추천 근거
+	 */
+	private final String reason;
+}
@@ -0,0 +1,24 @@
+package com.team4.giftidea.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 선물 추천 결과를 담는 응답 DTO 클래스
+ */
+@Getter
+@AllArgsConstructor
+public class RecommendationResponseDTO {
+
+	/**
+	 * 추천 상품 (미리 인코딩된 JSON 조각)
+	 */
+	private final List<ProductCardJson> product;
+
+	/**
+	 * 키워드별 추천 근거
+	 */
+	private final List<ReasonDTO> reason;
+}
@@ -0,0 +1,60 @@
+package com.team4.giftidea.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 크롤링 실행 기록을 저장하는 JPA 엔티티 클래스
+ * 오래 수집되지 않은 상품을 "최근 N번의 크롤링에서 한 번도 수집되지 않은 상품"으로 판단하기 위해 사용합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "crawl_runs", indexes = @Index(name = "idx_crawl_runs_complete_started", columnList = "complete, started_at"))
+public class CrawlRun {
+
+	/**
+	 * 기본 키 (자동 증가)
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	/**
+	 * 크롤링 시작 시각 (이 시각 이후 저장된 상품은 이번 크롤링에서 수집된 상품)
+	 */
+	@Column(nullable = false)
+	private LocalDateTime startedAt;
+
+	/**
+	 * 크롤링 종료 시각
+	 */
+	@Column(nullable = false)
+	private LocalDateTime finishedAt;
+
+	/**
+	 * 크롤링한 키워드 수
+	 */
+	private int keywords;
+
+	/**
+	 * 수집한 상품 수
+	 */
+	private int products;
+
+	/**
+	 * 실패한 키워드 수
+	 */
+	private int failures;
+
+	/**
+	 * 모든 키워드가 성공했는지 여부 (실패한 키워드가 있으면 그 상품은 수집되지 않았으므로 만료 판단에 쓰지 않음)
+	 */
+	@Column(nullable = false)
+	private boolean complete;
+}
@@ -0,0 +1,34 @@
+package com.team4.giftidea.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 검색 키워드를 저장하는 JPA 엔티티 클래스
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "keywords")
+public class Keyword {
+
+	/**
+	 * 기본 키 (자동 증가)
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	/**
+	 * 키워드 (예: 토트백, 무선이어폰)
+	 */
+	@Column(nullable = false, unique = true, length = 100)
+	private String name;
+
+	public Keyword(String name) {
+		this.name = name;
+	}
+}
@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 /**
  * 상품 정보를 저장하는 JPA 엔티티 클래스
  */
@@ -12,7 +14,10 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+	@Index(name = "idx_products_canonical", columnList = "canonical_id"),
+	@Index(name = "idx_products_last_seen", columnList = "last_seen_at")
+})
 public class Product {
 
 	/**
@@ -68,9 +73,42 @@ public class Product {
 	private String category;
 
 	/**
-	 * 검색 키워드 (상품과 연관된 키워드)
+	 * 상품이 처음 수집된 검색 키워드
+	 * 상품과 연관된 전체 키워드는 product_keywords 테이블에 저장됩니다.
 	 */
 	@Column(nullable = false)
 	private String keyword;
 
+	/**
+	 * 같은 상품으로 판단된 대표 상품의 id (null이면 이 상품이 대표 상품)
+	 * 대표 상품이 아닌 상품은 다른 판매처/키워드의 같은 상품(대체 판매처)으로, 추천 결과에는 대표 상품만 나갑니다.
+	 */
+	private Long canonicalId;
+
+	/**
+	 * 정규화된 상품명의 SimHash (중복 판단용)
+	 */
+	private Long simhash;
+
+	/**
+	 * 크롤링으로 갱신되는 내용(상품명, 가격, 이미지, 링크, 판매처)의 해시 (바뀌지 않은 상품은 다시 쓰지 않음)
+	 */
+	private Long fingerprint;
+
+	/**
+	 * 크롤링에서 마지막으로 수집된 시각
+	 */
+	private LocalDateTime lastSeenAt;
+
+	/**
+	 * 크롤링으로 내용이 마지막으로 바뀐 시각
+	 */
+	private LocalDateTime lastChangedAt;
+
+	/**
+	 * 여러 번의 크롤링 동안 수집되지 않아 만료된 시각 (null이면 판매 중, 만료된 상품은 추천에서 제외)
+	 * 다시 수집되면 null로 돌아갑니다.
+	 */
+	private LocalDateTime expiredAt;
+
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.team4.giftidea.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 상품과 키워드의 다대다 연결을 저장하는 JPA 엔티티 클래스
+ * 한 상품이 여러 키워드로 검색될 수 있으며, 키워드별 가격순 조회가 인덱스 범위 스캔으로 끝나도록
+ * 상품 가격을 함께 저장합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(
+	name = "product_keywords",
+	uniqueConstraints = @UniqueConstraint(name = "uk_product_keyword", columnNames = {"keyword_id", "product_id"}),
+	indexes = {
+		@Index(name = "idx_product_keywords_keyword_price", columnList = "keyword_id, price"),
+		@Index(name = "idx_product_keywords_product", columnList = "product_id")
+	})
+public class ProductKeyword {
+
+	/**
+	 * 기본 키 (자동 증가)
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	/**
+	 * 연결된 상품
+	 */
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "product_id", nullable = false)
+	private Product product;
+
+	/**
+	 * 연결된 키워드
+	 */
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "keyword_id", nullable = false)
+	private Keyword keyword;
+
+	/**
+	 * 상품 가격 (products.price 사본, 상품 가격이 바뀌면 함께 갱신)
+	 */
+	@Column(nullable = false)
+	private Integer price;
+
+	public ProductKeyword(Product product, Keyword keyword) {
+		this.product = product;
+		this.keyword = keyword;
+		this.price = product.getPrice();
+	}
+}
@@ -0,0 +1,22 @@
+package com.team4.giftidea.repository;
+
+import java.util.List;
+
+import com.team4.giftidea.entity.CrawlRun;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 크롤링 실행 기록을 저장 및 조회하는 JPA Repository 인터페이스
+ */
+@Repository
+public interface CrawlRunRepository extends JpaRepository<CrawlRun, Long> {
+
+	/**
+	 * 모든 키워드가 성공한 크롤링을 최근 순으로 조회합니다.
+	 */
+	@Query("SELECT r FROM CrawlRun r WHERE r.complete = true ORDER BY r.startedAt DESC")
+	List<CrawlRun> findRecentComplete(Pageable pageable);
+}
@@ -0,0 +1,22 @@
+package com.team4.giftidea.repository;
+
+import java.util.Optional;
+
+import com.team4.giftidea.entity.Keyword;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 검색 키워드를 저장 및 조회하는 JPA Repository 인터페이스
+ */
+@Repository
+public interface KeywordRepository extends JpaRepository<Keyword, Long> {
+
+	/**
+	 * 키워드 이름으로 조회
+	 *
+	 * @param name 키워드
+	 * @return 키워드 엔티티 (없으면 Optional.empty())
+	 */
+	Optional<Keyword> findByName(String name);
+}
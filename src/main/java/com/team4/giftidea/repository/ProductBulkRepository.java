@@ -0,0 +1,204 @@
+package com.team4.giftidea.repository;
+
+import com.team4.giftidea.entity.Product;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 크롤링한 상품을 한 번에 저장하는 JDBC 배치 Repository
+ * 상품 id가 IDENTITY 방식이라 Hibernate는 INSERT를 배치로 묶지 못하므로, 크롤링 저장은 JdbcTemplate 배치로 처리합니다.
+ * (MySQL 드라이버의 rewriteBatchedStatements 옵션을 켜면 배치 하나가 여러 행 INSERT 한 문장으로 전송됩니다.)
+ * 내용이 바뀌지 않은 상품은 다시 쓰지 않고 수집 시각만 갱신하며, 오래 수집되지 않은 상품은 만료 처리합니다.
+ */
+@Repository
+public class ProductBulkRepository {
+
+	private static final String UPSERT_PRODUCT = """
+		INSERT INTO products (product_id, title, price, image, mall_name, link, brand, category, keyword, simhash, canonical_id,
+		    fingerprint, last_seen_at, last_changed_at)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+		ON DUPLICATE KEY UPDATE title = VALUES(title), price = VALUES(price), image = VALUES(image),
+		    link = VALUES(link), mall_name = VALUES(mall_name), fingerprint = VALUES(fingerprint),
+		    last_seen_at = VALUES(last_seen_at), last_changed_at = VALUES(last_changed_at), expired_at = NULL
+		""";
+	private static final String SELECT_REFS = """
+		SELECT id, product_id, price, canonical_id, fingerprint, expired_at FROM products WHERE product_id IN (:productIds)
+		""";
+	private static final String TOUCH = """
+		UPDATE products SET last_seen_at = :seenAt, expired_at = NULL WHERE id IN (:ids)
+		""";
+	private static final String EXPIRE_UNSEEN = """
+		UPDATE products p
+		LEFT JOIN (
+		    SELECT canonical_id FROM products
+		    WHERE canonical_id IS NOT NULL AND last_seen_at >= :cutoff
+		    GROUP BY canonical_id
+		) seen_alternate ON seen_alternate.canonical_id = p.id
+		SET p.expired_at = :expiredAt
+		WHERE p.expired_at IS NULL
+		  AND (p.last_seen_at IS NULL OR p.last_seen_at < :cutoff)
+		  AND seen_alternate.canonical_id IS NULL
+		""";
+	private static final String UPDATE_CANONICAL = """
+		UPDATE products p JOIN products c ON c.product_id = ?
+		SET p.canonical_id = c.id
+		WHERE p.product_id = ? AND p.canonical_id IS NULL
+		""";
+	private static final String INSERT_LINK = """
+		INSERT IGNORE INTO product_keywords (product_id, keyword_id, price)
+		SELECT id, ?, price FROM products WHERE id = ?
+		""";
+	private static final String UPDATE_LINK_PRICE = "UPDATE product_keywords SET price = ? WHERE product_id = ?";
+
+	/** IN 목록 한 번에 넣을 최대 상품 수 */
+	private static final int MAX_IN_LIST = 1000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedJdbcTemplate;
+	private final int batchSize;
+
+	/**
+	 * @param batchSize 배치 한 번에 보낼 행 수
+	 */
+	public ProductBulkRepository(JdbcTemplate jdbcTemplate, @Value("${product.bulk.batch-size:200}") int batchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+		this.batchSize = Math.max(1, batchSize);
+	}
+
+	/**
+	 * 상품 고유 ID로 저장된 상품의 id, 가격, 대표 상품 id를 한 번에 조회합니다.
+	 *
+	 * @param productIds 상품 고유 ID
+	 * @return 상품 고유 ID → 저장된 상품 정보 (저장되지 않은 상품은 없음)
+	 */
+	public Map<String, ProductRef> findRefs(Collection<String> productIds) {
+		Map<String, ProductRef> refs = new HashMap<>(productIds.size() * 2);
+		List<String> ids = new ArrayList<>(productIds);
+		for (int from = 0; from < ids.size(); from += MAX_IN_LIST) {
+			List<String> chunk = ids.subList(from, Math.min(ids.size(), from + MAX_IN_LIST));
+			namedJdbcTemplate.query(SELECT_REFS, Map.of("productIds", chunk), rs -> {
+				long id = rs.getLong("id");
+				String productId = rs.getString("product_id");
+				int price = rs.getInt("price");
+				long canonicalId = rs.getLong("canonical_id");
+				Long canonical = rs.wasNull() ? null : canonicalId;
+				long fingerprint = rs.getLong("fingerprint");
+				ProductRef ref = new ProductRef(id, productId, price, canonical, rs.wasNull() ? null : fingerprint,
+					rs.getTimestamp("expired_at") != null);
+				refs.put(ref.productId(), ref);
+			});
+		}
+		return refs;
+	}
+
+	/**
+	 * 상품을 배치로 저장합니다. 이미 있는 상품은 상품명, 가격, 이미지, 링크, 판매처와 fingerprint, 수집/변경 시각만 갱신하고
+	 * 최초 수집 키워드, SimHash, 대표 상품 연결은 유지합니다. 만료된 상품이었다면 다시 판매 중으로 돌립니다.
+	 */
+	public void upsert(Collection<Product> products) {
+		jdbcTemplate.batchUpdate(UPSERT_PRODUCT, products, batchSize, (ps, product) -> {
+			ps.setString(1, product.getProductId());
+			ps.setString(2, product.getTitle());
+			ps.setInt(3, product.getPrice() == null ? 0 : product.getPrice());
+			ps.setString(4, product.getImage());
+			ps.setString(5, product.getMallName());
+			ps.setString(6, product.getLink());
+			ps.setString(7, product.getBrand());
+			ps.setString(8, product.getCategory());
+			ps.setString(9, product.getKeyword());
+			ps.setObject(10, product.getSimhash());
+			ps.setObject(11, product.getCanonicalId());
+			ps.setObject(12, product.getFingerprint());
+			ps.setObject(13, product.getLastSeenAt());
+			ps.setObject(14, product.getLastChangedAt());
+		});
+	}
+
+	/**
+	 * 내용이 바뀌지 않은 상품의 수집 시각만 갱신합니다. 만료된 상품이었다면 다시 판매 중으로 돌립니다.
+	 *
+	 * @param ids    상품 id
+	 * @param seenAt 수집 시각
+	 */
+	public void touch(Collection<Long> ids, LocalDateTime seenAt) {
+		List<Long> all = new ArrayList<>(ids);
+		for (int from = 0; from < all.size(); from += MAX_IN_LIST) {
+			List<Long> chunk = all.subList(from, Math.min(all.size(), from + MAX_IN_LIST));
+			namedJdbcTemplate.update(TOUCH, Map.of("seenAt", seenAt, "ids", chunk));
+		}
+	}
+
+	/**
+	 * cutoff 이후 한 번도 수집되지 않은 상품을 만료 처리합니다.
+	 * 대표 상품은 묶인 상품(다른 판매처) 중 하나라도 cutoff 이후 수집되었으면 만료하지 않습니다.
+	 *
+	 * @param cutoff    이 시각 이후 수집된 상품은 유지
+	 * @param expiredAt 만료 시각
+	 * @return 만료된 상품 수
+	 */
+	public int expireUnseenSince(LocalDateTime cutoff, LocalDateTime expiredAt) {
+		return namedJdbcTemplate.update(EXPIRE_UNSEEN, Map.of("cutoff", cutoff, "expiredAt", expiredAt));
+	}
+
+	/**
+	 * 상품을 같은 요청에서 먼저 저장된 대표 상품에 연결합니다.
+	 *
+	 * @param canonicalByProductId 상품 고유 ID → 대표 상품의 상품 고유 ID
+	 */
+	public void linkCanonical(Map<String, String> canonicalByProductId) {
+		List<Map.Entry<String, String>> entries = new ArrayList<>(canonicalByProductId.entrySet());
+		jdbcTemplate.batchUpdate(UPDATE_CANONICAL, entries, batchSize, (ps, entry) -> {
+			ps.setString(1, entry.getValue());
+			ps.setString(2, entry.getKey());
+		});
+	}
+
+	/**
+	 * 상품들을 키워드에 연결합니다. 이미 있는 연결은 건너뛰며, 연결에 저장되는 가격은 상품의 현재 가격입니다.
+	 *
+	 * @param productIds 연결할 상품 id
+	 * @param keywordId  키워드 id
+	 */
+	public void insertLinks(Collection<Long> productIds, long keywordId) {
+		jdbcTemplate.batchUpdate(INSERT_LINK, productIds, batchSize, (ps, productId) -> {
+			ps.setLong(1, keywordId);
+			ps.setLong(2, productId);
+		});
+	}
+
+	/**
+	 * 가격이 바뀐 상품의 모든 키워드 연결에 저장된 가격을 갱신합니다.
+	 *
+	 * @param prices 상품 id → 새 가격
+	 */
+	public void updateLinkPrices(Map<Long, Integer> prices) {
+		List<Map.Entry<Long, Integer>> entries = new ArrayList<>(prices.entrySet());
+		jdbcTemplate.batchUpdate(UPDATE_LINK_PRICE, entries, batchSize, (ps, entry) -> {
+			ps.setInt(1, entry.getValue());
+			ps.setLong(2, entry.getKey());
+		});
+	}
+
+	/**
+	 * 저장된 상품의 식별 정보
+	 *
+	 * @param id          상품 id
+	 * @param productId   상품 고유 ID
+	 * @param price       저장된 가격
+	 * @param canonicalId 대표 상품 id (대표 상품이면 null)
+	 * @param fingerprint 저장된 내용의 해시 (아직 계산되지 않았으면 null)
+	 * @param expired     만료된 상품인지 여부
+	 */
+	public record ProductRef(long id, String productId, int price, Long canonicalId, Long fingerprint, boolean expired) {
+	}
+}
@@ -0,0 +1,57 @@
+package com.team4.giftidea.repository;
+
+import java.util.List;
+
+import com.team4.giftidea.entity.ProductKeyword;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 상품-키워드 연결을 저장 및 조회하는 JPA Repository 인터페이스
+ */
+@Repository
+public interface ProductKeywordRepository extends JpaRepository<ProductKeyword, Long> {
+
+	/**
+	 * 메모리 인덱스 생성을 위해 전체 (상품 id, 키워드) 쌍을 조회합니다.
+	 */
+	@Query("SELECT pk.product.id AS productId, k.name AS keyword FROM ProductKeyword pk JOIN pk.keyword k")
+	List<KeywordLink> findAllLinks();
+
+	/**
+	 * products.keyword 컬럼에만 있던 키워드를 keywords 테이블로 옮깁니다. 이미 있는 키워드는 건너뜁니다.
+	 *
+	 * @return 추가된 키워드 수
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT IGNORE INTO keywords (name)
+		SELECT DISTINCT p.keyword FROM products p WHERE p.keyword IS NOT NULL
+		""", nativeQuery = true)
+	int backfillKeywords();
+
+	/**
+	 * products.keyword 컬럼의 값으로 상품-키워드 연결을 만듭니다. 이미 있는 연결은 건너뜁니다.
+	 *
+	 * @return 추가된 연결 수
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT IGNORE INTO product_keywords (product_id, keyword_id, price)
+		SELECT p.id, k.id, p.price FROM products p JOIN keywords k ON k.name = p.keyword
+		""", nativeQuery = true)
+	int backfillLinks();
+
+	/**
+	 * (상품 id, 키워드) 쌍 프로젝션
+	 */
+	interface KeywordLink {
+
+		Long getProductId();
+
+		String getKeyword();
+	}
+}
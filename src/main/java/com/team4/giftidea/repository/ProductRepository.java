@@ -5,6 +5,8 @@ import java.util.Optional;
 
 import com.team4.giftidea.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -14,12 +16,52 @@ import org.springframework.stereotype.Repository;
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
 	/**
-	 * 주어진 키워드 목록에 해당하는 상품들을 검색합니다.
+	 * 키워드별로 가격 범위 안의 상품을 정렬 기준에 따라 상위 limit개만 조회합니다.
+	 * keywords → product_keywords(keyword_id, price 인덱스) → products 순으로 조인하여 키워드별 범위만 읽고,
+	 * 순위는 DB에서 ROW_NUMBER() 윈도 함수로 계산합니다. 같은 값이면 최근 저장된 상품이 먼저 옵니다.
+	 * 같은 상품으로 묶인 상품 중에는 대표 상품만 반환하며, 만료된 상품은 제외합니다.
+	 * 대체 판매처의 최저가와 판매처 수는 반환할 행에 대해서만 canonical_id 인덱스로 계산합니다.
 	 *
 	 * @param keywords 검색할 키워드 목록
-	 * @return 해당 키워드에 맞는 상품 리스트
+	 * @param sort     정렬 기준 (price, recency, mall)
+	 * @param limit    키워드당 최대 상품 수
+	 * @param minPrice 최소 가격 (포함)
+	 * @param maxPrice 최대 가격 (포함)
+	 * @return 키워드, 순위 순으로 정렬된 상품 프로젝션
 	 */
-	List<Product> findByKeywordIn(List<String> keywords);
+	@Query(value = """
+		SELECT ranked.product_id AS productId, ranked.title AS title, ranked.price AS price,
+		       ranked.image AS image, ranked.link AS link, ranked.mall_name AS mallName,
+		       ranked.brand AS brand, ranked.keyword AS keyword,
+		       LEAST(ranked.price, COALESCE((SELECT MIN(a.price) FROM products a
+		                                      WHERE a.canonical_id = ranked.id AND a.expired_at IS NULL),
+		                                     ranked.price)) AS minPrice,
+		       1 + (SELECT COUNT(*) FROM products a
+		            WHERE a.canonical_id = ranked.id AND a.expired_at IS NULL) AS offerCount
+		FROM (
+		    SELECT p.id, p.product_id, p.title, pk.price, p.image, p.link, p.mall_name, p.brand, k.name AS keyword,
+		           ROW_NUMBER() OVER (
+		               PARTITION BY pk.keyword_id
+		               ORDER BY CASE WHEN :sort = 'price' THEN pk.price END,
+		                        CASE WHEN :sort = 'mall' THEN p.mall_name END,
+		                        p.id DESC) AS rn
+		    FROM keywords k
+		    JOIN product_keywords pk ON pk.keyword_id = k.id
+		    JOIN products p ON p.id = pk.product_id
+		    WHERE k.name IN (:keywords)
+		      AND p.canonical_id IS NULL
+		      AND p.expired_at IS NULL
+		      AND pk.price BETWEEN :minPrice AND :maxPrice
+		) ranked
+		WHERE ranked.rn <= :limit
+		ORDER BY ranked.keyword, ranked.rn
+		""", nativeQuery = true)
+	List<ProductSummary> findTopByKeywordIn(
+		@Param("keywords") List<String> keywords,
+		@Param("sort") String sort,
+		@Param("limit") int limit,
+		@Param("minPrice") int minPrice,
+		@Param("maxPrice") int maxPrice);
 
 	/**
 	 * ✅ 특정 productId로 상품 조회
@@ -29,4 +71,33 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 	Optional<Product> findByProductId(String productId);
 
 	List<Product> findByMallName(String mallName);
-}
\ No newline at end of file
+
+	/**
+	 * 만료되지 않은 전체 상품 조회 (메모리 인덱스, 카탈로그 스냅샷용)
+	 */
+	List<Product> findByExpiredAtIsNull();
+
+	/**
+	 * SimHash가 아직 계산되지 않은 상품을 저장 순서대로 조회
+	 */
+	List<Product> findBySimhashIsNullOrderByIdAsc();
+
+	/**
+	 * 중복 판별 색인을 만들기 위해 만료되지 않은 대표 상품의 (id, SimHash, 가격)을 조회
+	 */
+	@Query("SELECT p.id AS id, p.simhash AS simhash, p.price AS price FROM Product p "
+		+ "WHERE p.canonicalId IS NULL AND p.simhash IS NOT NULL AND p.expiredAt IS NULL")
+	List<CanonicalSignature> findCanonicalSignatures();
+
+	/**
+	 * 대표 상품 서명 프로젝션
+	 */
+	interface CanonicalSignature {
+
+		Long getId();
+
+		Long getSimhash();
+
+		Integer getPrice();
+	}
+}
@@ -0,0 +1,34 @@
+package com.team4.giftidea.repository;
+
+/**
+ * 키워드별 상품 조회 결과를 담는 인터페이스 기반 프로젝션
+ * 화면에 필요한 컬럼과 정렬용 키워드만 조회합니다.
+ */
+public interface ProductSummary {
+
+	String getProductId();
+
+	String getTitle();
+
+	Integer getPrice();
+
+	String getImage();
+
+	String getLink();
+
+	String getMallName();
+
+	String getBrand();
+
+	String getKeyword();
+
+	/**
+	 * @return 대표 상품과 대체 판매처 중 최저가
+	 */
+	Integer getMinPrice();
+
+	/**
+	 * @return 대표 상품을 포함한 판매처 수
+	 */
+	int getOfferCount();
+}
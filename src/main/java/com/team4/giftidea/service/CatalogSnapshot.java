@@ -0,0 +1,306 @@
+package com.team4.giftidea.service;
+
+import com.team4.giftidea.entity.Product;
+import com.team4.giftidea.repository.ProductKeywordRepository;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 카탈로그(상품 + 상품-키워드 연결)를 담는 바이너리 스냅샷 파일
+ * 새 서버나 통합 테스트 환경을 크롤링 없이 실제와 같은 카탈로그로 띄우기 위해 사용합니다.
+ *
+ * <p>형식 (모든 정수는 부호 없는 varint, 문자열은 "UTF-8 길이 + 1" varint 뒤 UTF-8 바이트, 0이면 null)
+ * <pre>
+ * magic(4) version(1) createdAt(8)
+ * 키워드 사전, 판매처 사전, 브랜드 사전 : 개수, 문자열...
+ * 상품 수, 상품마다: id, productId, title, price, image, 판매처 번호, link, 브랜드 번호 + 1, category,
+ *                   최초 키워드 번호, 대표 상품 id + 1, SimHash 유무(1) [SimHash(8)]
+ * 연결 수, 연결마다: 상품 번호, 키워드 번호
+ * </pre>
+ * 반복되는 키워드/판매처/브랜드는 사전 번호로, 가격과 id는 varint로 저장하여 JSON 대비 크기가 작고,
+ * 읽을 때는 파일을 메모리 매핑하여 한 번에 순서대로 해석합니다.
+ */
+public final class CatalogSnapshot {
+
+	private static final int MAGIC = 0x47494654; // "GIFT"
+	private static final byte VERSION = 1;
+
+	private final long createdAt;
+	private final List<Product> products;
+	private final List<Link> links;
+
+	private CatalogSnapshot(long createdAt, List<Product> products, List<Link> links) {
+		this.createdAt = createdAt;
+		this.products = products;
+		this.links = links;
+	}
+
+	/**
+	 * 카탈로그를 스냅샷 파일로 씁니다. 임시 파일에 쓴 뒤 교체하므로 쓰는 도중에도 기존 파일을 읽을 수 있습니다.
+	 *
+	 * @param path     스냅샷 파일 경로
+	 * @param products 전체 상품
+	 * @param links    전체 (상품 id, 키워드) 쌍
+	 * @return 파일 크기 (바이트)
+	 */
+	public static long write(Path path, List<Product> products, List<? extends ProductKeywordRepository.KeywordLink> links)
+		throws IOException {
+		Dictionary keywords = new Dictionary();
+		Dictionary malls = new Dictionary();
+		Dictionary brands = new Dictionary();
+		Map<Long, Integer> positionById = new HashMap<>(products.size() * 2);
+		for (int i = 0; i < products.size(); i++) {
+			Product product = products.get(i);
+			positionById.put(product.getId(), i);
+			keywords.add(product.getKeyword());
+			malls.add(product.getMallName());
+			if (product.getBrand() != null) {
+				brands.add(product.getBrand());
+			}
+		}
+		links.forEach(link -> keywords.add(link.getKeyword()));
+
+		Path parent = path.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+		Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+			out.writeInt(MAGIC);
+			out.writeByte(VERSION);
+			out.writeLong(System.currentTimeMillis());
+			keywords.writeTo(out);
+			malls.writeTo(out);
+			brands.writeTo(out);
+
+			writeVarLong(out, products.size());
+			for (Product product : products) {
+				writeVarLong(out, product.getId());
+				writeString(out, product.getProductId());
+				writeString(out, product.getTitle());
+				writeVarLong(out, product.getPrice() == null ? 0 : product.getPrice());
+				writeString(out, product.getImage());
+				writeVarLong(out, malls.indexOf(product.getMallName()));
+				writeString(out, product.getLink());
+				writeVarLong(out, product.getBrand() == null ? 0 : brands.indexOf(product.getBrand()) + 1);
+				writeString(out, product.getCategory());
+				writeVarLong(out, keywords.indexOf(product.getKeyword()));
+				writeVarLong(out, product.getCanonicalId() == null ? 0 : product.getCanonicalId() + 1);
+				out.writeBoolean(product.getSimhash() != null);
+				if (product.getSimhash() != null) {
+					out.writeLong(product.getSimhash());
+				}
+			}
+
+			List<long[]> encoded = new ArrayList<>(links.size());
+			for (ProductKeywordRepository.KeywordLink link : links) {
+				Integer position = positionById.get(link.getProductId());
+				if (position != null) {
+					encoded.add(new long[] {position, keywords.indexOf(link.getKeyword())});
+				}
+			}
+			writeVarLong(out, encoded.size());
+			for (long[] link : encoded) {
+				writeVarLong(out, link[0]);
+				writeVarLong(out, link[1]);
+			}
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(temp);
+			throw e;
+		}
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		return Files.size(path);
+	}
+
+	/**
+	 * 스냅샷 파일을 메모리 매핑하여 읽습니다.
+	 *
+	 * @param path 스냅샷 파일 경로
+	 * @return 읽은 카탈로그
+	 * @throws IOException 파일을 읽을 수 없거나 형식이 맞지 않을 때
+	 */
+	public static CatalogSnapshot read(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return read(buffer);
+		}
+	}
+
+	static CatalogSnapshot read(ByteBuffer buffer) throws IOException {
+		try {
+			if (buffer.getInt() != MAGIC) {
+				throw new IOException("카탈로그 스냅샷 파일이 아닙니다.");
+			}
+			byte version = buffer.get();
+			if (version != VERSION) {
+				throw new IOException("지원하지 않는 카탈로그 스냅샷 버전: " + version);
+			}
+			long createdAt = buffer.getLong();
+			String[] keywords = readDictionary(buffer);
+			String[] malls = readDictionary(buffer);
+			String[] brands = readDictionary(buffer);
+
+			int productCount = (int) readVarLong(buffer);
+			List<Product> products = new ArrayList<>(productCount);
+			for (int i = 0; i < productCount; i++) {
+				Product product = new Product();
+				product.setId(readVarLong(buffer));
+				product.setProductId(readString(buffer));
+				product.setTitle(readString(buffer));
+				product.setPrice((int) readVarLong(buffer));
+				product.setImage(readString(buffer));
+				product.setMallName(malls[(int) readVarLong(buffer)]);
+				product.setLink(readString(buffer));
+				int brand = (int) readVarLong(buffer);
+				product.setBrand(brand == 0 ? null : brands[brand - 1]);
+				product.setCategory(readString(buffer));
+				product.setKeyword(keywords[(int) readVarLong(buffer)]);
+				long canonicalId = readVarLong(buffer);
+				product.setCanonicalId(canonicalId == 0 ? null : canonicalId - 1);
+				if (buffer.get() != 0) {
+					product.setSimhash(buffer.getLong());
+				}
+				products.add(product);
+			}
+
+			int linkCount = (int) readVarLong(buffer);
+			List<Link> links = new ArrayList<>(linkCount);
+			for (int i = 0; i < linkCount; i++) {
+				Product product = products.get((int) readVarLong(buffer));
+				links.add(new Link(product.getId(), keywords[(int) readVarLong(buffer)]));
+			}
+			return new CatalogSnapshot(createdAt, products, links);
+		} catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+			throw new IOException("손상된 카탈로그 스냅샷 파일입니다.", e);
+		}
+	}
+
+	/**
+	 * @return 스냅샷을 만든 시각 (epoch millis)
+	 */
+	public long createdAt() {
+		return createdAt;
+	}
+
+	/**
+	 * @return 전체 상품 (id는 스냅샷을 만든 DB 기준)
+	 */
+	public List<Product> products() {
+		return products;
+	}
+
+	/**
+	 * @return 전체 (상품 id, 키워드) 쌍
+	 */
+	public List<Link> links() {
+		return links;
+	}
+
+	/**
+	 * 스냅샷에 저장된 (상품 id, 키워드) 쌍
+	 */
+	public record Link(Long productId, String keyword) implements ProductKeywordRepository.KeywordLink {
+
+		@Override
+		public Long getProductId() {
+			return productId;
+		}
+
+		@Override
+		public String getKeyword() {
+			return keyword;
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			writeVarLong(out, 0);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarLong(out, bytes.length + 1L);
+		out.write(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length = (int) readVarLong(buffer);
+		if (length == 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length - 1];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static String[] readDictionary(ByteBuffer buffer) {
+		String[] values = new String[(int) readVarLong(buffer)];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = readString(buffer);
+		}
+		return values;
+	}
+
+	/**
+	 * 7비트씩 나누어 쓰는 부호 없는 varint (작은 값일수록 적은 바이트)
+	 */
+	private static void writeVarLong(OutputStream out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static long readVarLong(ByteBuffer buffer) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = buffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new IndexOutOfBoundsException("varint가 너무 깁니다.");
+	}
+
+	/**
+	 * 처음 나온 순서대로 번호를 붙이는 문자열 사전
+	 */
+	private static final class Dictionary {
+
+		private final Map<String, Integer> indexes = new HashMap<>();
+		private final List<String> values = new ArrayList<>();
+
+		void add(String value) {
+			if (!indexes.containsKey(value)) {
+				indexes.put(value, values.size());
+				values.add(value);
+			}
+		}
+
+		int indexOf(String value) {
+			return indexes.get(value);
+		}
+
+		void writeTo(DataOutputStream out) throws IOException {
+			writeVarLong(out, values.size());
+			for (String value : values) {
+				writeString(out, value);
+			}
+		}
+	}
+}
@@ -0,0 +1,227 @@
+package com.team4.giftidea.service;
+
+import com.team4.giftidea.entity.Product;
+import com.team4.giftidea.repository.ProductKeywordRepository;
+import com.team4.giftidea.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카탈로그 스냅샷 파일을 내보내고 불러오는 서비스 클래스
+ * 기동 시 스냅샷 파일이 있으면 DB를 읽지 않고 메모리 인덱스를 바로 만들고,
+ * 필요하면 비어 있는 DB에 배치 INSERT로 카탈로그를 채웁니다. (새 서버, 통합 테스트 환경용)
+ */
+@Service
+@Slf4j
+public class CatalogSnapshotService {
+
+	private static final String INSERT_PRODUCT = """
+		INSERT IGNORE INTO products (product_id, title, price, image, mall_name, link, brand, category, keyword, simhash)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+	private static final String UPDATE_CANONICAL = """
+		UPDATE products p JOIN products c ON c.product_id = ?
+		SET p.canonical_id = c.id
+		WHERE p.product_id = ?
+		""";
+	private static final String INSERT_KEYWORD = "INSERT IGNORE INTO keywords (name) VALUES (?)";
+	private static final String INSERT_LINK = """
+		INSERT IGNORE INTO product_keywords (product_id, keyword_id, price)
+		SELECT p.id, k.id, p.price FROM products p JOIN keywords k ON k.name = ?
+		WHERE p.product_id = ?
+		""";
+
+	private final ProductRepository productRepository;
+	private final ProductKeywordRepository productKeywordRepository;
+	private final ProductIndex productIndex;
+	private final ProductDeduplicator productDeduplicator;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final String path;
+	private final boolean loadOnStartup;
+	private final boolean seedEmptyDb;
+	private final int batchSize;
+
+	/**
+	 * @param path          스냅샷 파일 경로 (비어 있으면 스냅샷 기능 사용 안 함)
+	 * @param loadOnStartup 기동 시 스냅샷 파일로 메모리 인덱스 생성 여부
+	 * @param seedEmptyDb   기동 시 상품 테이블이 비어 있으면 스냅샷으로 채울지 여부
+	 * @param batchSize     DB에 채울 때 배치 INSERT 한 번의 행 수
+	 */
+	public CatalogSnapshotService(
+		ProductRepository productRepository,
+		ProductKeywordRepository productKeywordRepository,
+		ProductIndex productIndex,
+		ProductDeduplicator productDeduplicator,
+		JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		@Value("${product.snapshot.path:}") String path,
+		@Value("${product.snapshot.load-on-startup:false}") boolean loadOnStartup,
+		@Value("${product.snapshot.seed-empty-db:false}") boolean seedEmptyDb,
+		@Value("${product.snapshot.batch-size:500}") int batchSize) {
+		this.productRepository = productRepository;
+		this.productKeywordRepository = productKeywordRepository;
+		this.productIndex = productIndex;
+		this.productDeduplicator = productDeduplicator;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.path = path;
+		this.loadOnStartup = loadOnStartup;
+		this.seedEmptyDb = seedEmptyDb;
+		this.batchSize = Math.max(1, batchSize);
+	}
+
+	/**
+	 * 기동 직후 스냅샷 파일이 있으면 메모리 인덱스를 만들고, 설정에 따라 빈 DB를 채웁니다.
+	 * 상품-키워드 연결 이관 이후, DB 기반 인덱스 초기화 이전에 실행됩니다. 실패하면 DB 기반 초기화로 넘어갑니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(1)
+	public void warmStart() {
+		if (!loadOnStartup || path.isBlank() || !Files.exists(Path.of(path))) {
+			return;
+		}
+		try {
+			load(seedEmptyDb && productRepository.count() == 0);
+		} catch (Exception e) {
+			log.error("❌ 카탈로그 스냅샷 로드 실패, DB 기반으로 초기화합니다.", e);
+		}
+	}
+
+	/**
+	 * DB의 전체 카탈로그(만료된 상품 제외)를 스냅샷 파일로 내보냅니다.
+	 *
+	 * @return 내보낸 상품/연결 수와 파일 크기
+	 */
+	public Summary export() {
+		Path target = requirePath();
+		long start = System.currentTimeMillis();
+		List<Product> products = productRepository.findByExpiredAtIsNull();
+		List<ProductKeywordRepository.KeywordLink> links = productKeywordRepository.findAllLinks();
+		try {
+			long bytes = CatalogSnapshot.write(target, products, links);
+			Summary summary = new Summary(products.size(), links.size(), bytes, System.currentTimeMillis() - start);
+			log.info("📦 카탈로그 스냅샷 저장 완료 [{}] - {}", target, summary);
+			return summary;
+		} catch (IOException e) {
+			throw new UncheckedIOException("카탈로그 스냅샷 저장 실패: " + target, e);
+		}
+	}
+
+	/**
+	 * 스냅샷 파일로 메모리 인덱스를 교체하고, 요청하면 DB에도 채웁니다.
+	 *
+	 * @param replayToDb DB에 배치 INSERT로 채울지 여부 (이미 있는 상품/키워드/연결은 건너뜀)
+	 * @return 불러온 상품/연결 수와 파일 크기
+	 */
+	public Summary load(boolean replayToDb) {
+		Path source = requirePath();
+		long start = System.currentTimeMillis();
+		CatalogSnapshot snapshot;
+		try {
+			snapshot = CatalogSnapshot.read(source);
+		} catch (IOException e) {
+			throw new UncheckedIOException("카탈로그 스냅샷 읽기 실패: " + source, e);
+		}
+		productIndex.load(snapshot.products(), snapshot.links());
+		if (replayToDb) {
+			replay(snapshot);
+		}
+		Summary summary;
+		try {
+			summary = new Summary(snapshot.products().size(), snapshot.links().size(), Files.size(source),
+				System.currentTimeMillis() - start);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		log.info("📦 카탈로그 스냅샷 로드 완료 [{}]{} - {}", source, replayToDb ? " (DB 반영)" : "", summary);
+		return summary;
+	}
+
+	/**
+	 * 스냅샷의 상품, 키워드, 상품-키워드 연결을 배치 INSERT로 DB에 넣습니다.
+	 * DB의 id는 스냅샷과 다를 수 있으므로 대표 상품과 연결은 상품 고유 ID(productId)와 키워드 이름으로 찾아 연결합니다.
+	 * 전체를 한 트랜잭션으로 처리하여 중간에 실패하면 아무것도 반영되지 않습니다.
+	 */
+	public void replay(CatalogSnapshot snapshot) {
+		transactionTemplate.executeWithoutResult(status -> insertAll(snapshot));
+		// 새로 들어간 대표 상품을 중복 판별 색인에 반영
+		productDeduplicator.invalidate();
+	}
+
+	private void insertAll(CatalogSnapshot snapshot) {
+		List<Product> products = snapshot.products();
+		jdbcTemplate.batchUpdate(INSERT_PRODUCT, products, batchSize, (ps, product) -> {
+			ps.setString(1, product.getProductId());
+			ps.setString(2, product.getTitle());
+			ps.setInt(3, product.getPrice() == null ? 0 : product.getPrice());
+			ps.setString(4, product.getImage());
+			ps.setString(5, product.getMallName());
+			ps.setString(6, product.getLink());
+			ps.setString(7, product.getBrand());
+			ps.setString(8, product.getCategory());
+			ps.setString(9, product.getKeyword());
+			ps.setObject(10, product.getSimhash());
+		});
+
+		Map<Long, String> productIdById = new HashMap<>(products.size() * 2);
+		products.forEach(product -> productIdById.put(product.getId(), product.getProductId()));
+		List<Product> alternates = products.stream()
+			.filter(product -> product.getCanonicalId() != null && productIdById.containsKey(product.getCanonicalId()))
+			.toList();
+		jdbcTemplate.batchUpdate(UPDATE_CANONICAL, alternates, batchSize, (ps, product) -> {
+			ps.setString(1, productIdById.get(product.getCanonicalId()));
+			ps.setString(2, product.getProductId());
+		});
+
+		Set<String> keywords = new LinkedHashSet<>();
+		snapshot.links().forEach(link -> keywords.add(link.keyword()));
+		jdbcTemplate.batchUpdate(INSERT_KEYWORD, List.copyOf(keywords), batchSize,
+			(ps, keyword) -> ps.setString(1, keyword));
+
+		jdbcTemplate.batchUpdate(INSERT_LINK, snapshot.links(), batchSize, (ps, link) -> {
+			ps.setString(1, link.keyword());
+			ps.setString(2, productIdById.get(link.productId()));
+		});
+
+		log.info("🗄️ 카탈로그 스냅샷 DB 반영 - 상품 {}개, 대표 상품 연결 {}개, 키워드 {}개, 연결 {}개",
+			products.size(), alternates.size(), keywords.size(), snapshot.links().size());
+	}
+
+	private Path requirePath() {
+		if (path.isBlank()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "product.snapshot.path가 설정되지 않았습니다.");
+		}
+		return Path.of(path);
+	}
+
+	/**
+	 * 스냅샷 내보내기/불러오기 결과
+	 *
+	 * @param products      상품 수
+	 * @param links         상품-키워드 연결 수
+	 * @param bytes         파일 크기
+	 * @param elapsedMillis 소요 시간
+	 */
+	public record Summary(int products, int links, long bytes, long elapsedMillis) {
+	}
+}
@@ -0,0 +1,126 @@
+package com.team4.giftidea.service;
+
+/**
+ * 카카오톡 대화 한 줄에서 이름/시간 접두어와 ㅋ·ㅎ·마침표를 제거하는 정규화 클래스
+ * 정규식 없이 문자 단위로 한 번만 훑으며, 내부 버퍼를 재사용하므로 요청(스레드)마다 새 인스턴스를 사용해야 합니다.
+ */
+public final class ChatLineNormalizer {
+
+	/**
+	 * PC 버전 내보내기 형식 ("[이름] [시간] 메시지")
+	 */
+	public static final int FORMAT_PC = 1;
+
+	/**
+	 * 모바일 버전 내보내기 형식 ("이름 : 메시지")
+	 */
+	public static final int FORMAT_MOBILE = 2;
+
+	private final int formatType;
+	private final String mobilePrefix;
+	private final StringBuilder buffer = new StringBuilder(256);
+
+	/**
+	 * @param formatType 대화 내보내기 형식 ({@link #FORMAT_PC} 또는 {@link #FORMAT_MOBILE})
+	 * @param targetName 분석 대상 이름 (정규식이 아닌 문자열 그대로 비교)
+	 */
+	public ChatLineNormalizer(int formatType, String targetName) {
+		this.formatType = formatType;
+		this.mobilePrefix = targetName + " : ";
+	}
+
+	/**
+	 * 한 줄을 정규화합니다.
+	 *
+	 * @param line 원본 대화 줄
+	 * @return 정규화된 줄
+	 */
+	public String normalize(String line) {
+		if (formatType != FORMAT_PC && formatType != FORMAT_MOBILE) {
+			return line;
+		}
+
+		buffer.setLength(0);
+		int length = line.length();
+		int from = (formatType == FORMAT_MOBILE && line.startsWith(mobilePrefix)) ? mobilePrefix.length() : 0;
+		int trimmedEnd = 0;
+
+		for (int i = from; i < length; i++) {
+			char c = line.charAt(i);
+			if (formatType == FORMAT_PC && c == '[') {
+				int prefixEnd = matchPcPrefix(line, i);
+				if (prefixEnd != -1) {
+					i = prefixEnd - 1;
+					continue;
+				}
+			}
+			if (c == 'ㅋ' || c == 'ㅎ' || c == '.') {
+				continue;
+			}
+			if (buffer.length() == 0 && c <= ' ') {
+				continue; // 앞쪽 공백 제거 (String.trim과 동일한 기준)
+			}
+
+			buffer.append(c);
+			if (c > ' ') {
+				trimmedEnd = buffer.length();
+			}
+		}
+
+		buffer.setLength(trimmedEnd);
+		return buffer.toString();
+	}
+
+	/**
+	 * 공백 기준 토큰 수를 배열 할당 없이 셉니다.
+	 *
+	 * @param text 대상 문자열
+	 * @return 토큰 수 (null 또는 빈 문자열이면 0)
+	 */
+	public static int countTokens(CharSequence text) {
+		if (text == null || text.isEmpty()) {
+			return 0;
+		}
+		int tokens = 0;
+		boolean inWhitespace = true;
+		for (int i = 0; i < text.length(); i++) {
+			boolean whitespace = isWhitespace(text.charAt(i));
+			if (!whitespace && inWhitespace) {
+				tokens++;
+			}
+			inWhitespace = whitespace;
+		}
+		return tokens;
+	}
+
+	/**
+	 * start 위치에서 "[...] [...] " 패턴이 시작되면 그 끝 위치를, 아니면 -1을 반환합니다.
+	 * 기존 정규식 "\\[.*?\\] \\[.*?\\] "과 같은 최소 일치 규칙을 따릅니다.
+	 */
+	private static int matchPcPrefix(String line, int start) {
+		int length = line.length();
+		for (int first = start + 1; first + 2 < length; first++) {
+			char c = line.charAt(first);
+			if (c == '\n' || c == '\r') {
+				return -1;
+			}
+			if (c != ']' || line.charAt(first + 1) != ' ' || line.charAt(first + 2) != '[') {
+				continue;
+			}
+			for (int second = first + 3; second + 1 < length; second++) {
+				char d = line.charAt(second);
+				if (d == '\n' || d == '\r') {
+					break;
+				}
+				if (d == ']' && line.charAt(second + 1) == ' ') {
+					return second + 2;
+				}
+			}
+		}
+		return -1;
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+}
@@ -0,0 +1,176 @@
+package com.team4.giftidea.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 카카오톡 대화 파일에서 GPT 입력용 청크(대상의 최근 대화)를 만드는 서비스 클래스
+ * 업로드 파일은 임시 파일로 옮긴 뒤 끝에서부터 거꾸로 읽어, 토큰 예산이 차는 즉시 읽기를 멈춥니다.
+ */
+@Service
+@Slf4j
+public class ChatPreprocessService {
+
+	/**
+	 * GPT 모델의 입력 토큰 제한 (openai.model의 BPE 토큰 기준)
+	 */
+	public static final int GPT_INPUT_LIMIT = 11000;
+
+	private static final String PC_EXPORT_HEADER = "님과 카카오톡 대화";
+
+	/**
+	 * 청크에서 각 줄 뒤에 붙는 줄바꿈 문자의 토큰 수
+	 */
+	private static final int NEWLINE_TOKENS = 1;
+
+	private final TokenCounter tokenCounter;
+
+	public ChatPreprocessService(TokenCounter tokenCounter) {
+		this.tokenCounter = tokenCounter;
+	}
+
+	/**
+	 * 업로드된 대화 파일을 임시 파일로 옮긴 뒤 끝에서부터 역순으로 읽어 최근 대화 청크를 만듭니다.
+	 * 임시 파일 생성에 실패하면 스트림을 앞에서부터 한 번 순회하는 방식으로 대체합니다.
+	 *
+	 * @param file       업로드된 카카오톡 대화 파일
+	 * @param targetName 분석 대상 이름
+	 * @return 줄바꿈으로 연결된 최근 대화 청크
+	 * @throws IOException 파일 읽기 실패 시
+	 */
+	public String extractRecentChunk(MultipartFile file, String targetName) throws IOException {
+		Path spooled;
+		try {
+			spooled = Files.createTempFile("kakaochat-", ".txt");
+			file.transferTo(spooled);
+		} catch (IOException e) {
+			log.warn("업로드 파일 임시 저장 실패, 스트림 방식으로 전처리합니다: {}", e.getMessage());
+			return extractRecentChunk(file.getInputStream(), targetName);
+		}
+
+		try {
+			return extractRecentChunk(spooled, targetName);
+		} finally {
+			Files.deleteIfExists(spooled);
+		}
+	}
+
+	/**
+	 * 대화 파일을 끝에서부터 역순으로 읽으며 targetName의 발화를 토큰 예산이 찰 때까지 수집합니다.
+	 * 예산을 넘는 줄을 만나면 그 앞부분은 읽지 않으므로 비용이 파일 크기가 아닌 예산에 비례합니다.
+	 *
+	 * @param path       대화 파일 경로
+	 * @param targetName 분석 대상 이름
+	 * @return 줄바꿈으로 연결된 최근 대화 청크
+	 * @throws IOException 파일 읽기 실패 시
+	 */
+	public String extractRecentChunk(Path path, String targetName) throws IOException {
+		String firstLine;
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			firstLine = reader.readLine();
+		}
+		ChatLineNormalizer normalizer = new ChatLineNormalizer(detectFormatType(firstLine), targetName);
+
+		List<String> selectedLines = new ArrayList<>();
+		int currentTokenCount = 0;
+		try (ReverseLineReader reader = new ReverseLineReader(path)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.contains(targetName) || line.isBlank()) {
+					continue;
+				}
+				String formattedLine = normalizer.normalize(line);
+				int tokenCount = tokenCounter.count(formattedLine) + NEWLINE_TOKENS;
+				if (currentTokenCount + tokenCount > GPT_INPUT_LIMIT) {
+					break;
+				}
+				selectedLines.add(formattedLine);
+				currentTokenCount += tokenCount;
+			}
+		}
+
+		log.debug("대화 역순 전처리 완료 - {}줄 선택 ({} 토큰)", selectedLines.size(), currentTokenCount);
+
+		Collections.reverse(selectedLines);
+		StringBuilder finalChunk = new StringBuilder();
+		for (String s : selectedLines) {
+			finalChunk.append(s).append("\n");
+		}
+		return finalChunk.toString();
+	}
+
+	/**
+	 * 대화 스트림을 한 번 순회하며 targetName의 최근 발화를 토큰 예산 내에서 추출합니다.
+	 * 첫 줄로 내보내기 형식을 판별하고, 이후 줄은 도착하는 즉시 정리하여 링 윈도우에 넣습니다.
+	 *
+	 * @param inputStream 카카오톡 대화 파일 스트림
+	 * @param targetName  분석 대상 이름
+	 * @return 줄바꿈으로 연결된 최근 대화 청크
+	 * @throws IOException 스트림 읽기 실패 시
+	 */
+	public String extractRecentChunk(InputStream inputStream, String targetName) throws IOException {
+		Deque<String> window = new ArrayDeque<>();
+		Deque<Integer> windowTokens = new ArrayDeque<>();
+		int currentTokenCount = 0;
+		long matchedLines = 0;
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+			String line = reader.readLine();
+			ChatLineNormalizer normalizer = new ChatLineNormalizer(detectFormatType(line), targetName);
+
+			for (; line != null; line = reader.readLine()) {
+				if (!line.contains(targetName) || line.isBlank()) {
+					continue;
+				}
+				String formattedLine = normalizer.normalize(line);
+				int tokenCount = tokenCounter.count(formattedLine) + NEWLINE_TOKENS;
+
+				window.addLast(formattedLine);
+				windowTokens.addLast(tokenCount);
+				currentTokenCount += tokenCount;
+				matchedLines++;
+
+				// 예산을 넘으면 가장 오래된 줄부터 제거 (아랫부분부터 역순으로 채우는 것과 동일한 결과)
+				while (currentTokenCount > GPT_INPUT_LIMIT && !window.isEmpty()) {
+					window.removeFirst();
+					currentTokenCount -= windowTokens.removeFirst();
+				}
+			}
+		}
+
+		log.debug("대화 전처리 완료 - 대상 줄 {}개 중 {}개 선택 ({} 토큰)", matchedLines, window.size(), currentTokenCount);
+
+		StringBuilder finalChunk = new StringBuilder();
+		for (String s : window) {
+			finalChunk.append(s).append("\n");
+		}
+		return finalChunk.toString();
+	}
+
+	/**
+	 * 첫 줄을 보고 대화 내보내기 형식을 판별합니다.
+	 *
+	 * @param firstLine 파일의 첫 줄 (빈 파일이면 null)
+	 * @return {@link ChatLineNormalizer#FORMAT_PC} 또는 {@link ChatLineNormalizer#FORMAT_MOBILE}
+	 */
+	private int detectFormatType(String firstLine) {
+		if (firstLine != null && firstLine.contains(PC_EXPORT_HEADER)) {
+			return ChatLineNormalizer.FORMAT_PC;
+		}
+		return ChatLineNormalizer.FORMAT_MOBILE;
+	}
+}
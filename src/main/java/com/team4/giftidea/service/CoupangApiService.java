@@ -2,9 +2,13 @@ package com.team4.giftidea.service;
 
 import com.team4.giftidea.entity.Product;
 import lombok.extern.slf4j.Slf4j;
-import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,30 +19,42 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 쿠팡에서 상품을 크롤링하는 서비스 클래스
+ * 검색 결과 HTML을 먼저 브라우저 없이 가져와 파싱하고, 차단되었거나 상품 목록이 없으면 Chrome으로 다시 시도합니다.
+ * 두 경로 모두 같은 선택자로 상품 정보를 추출합니다.
  */
 @Service
 @Slf4j
 public class CoupangApiService {
 
 	private static final String COUPANG_SEARCH_URL = "https://www.coupang.com/np/search?q=%s&channel=user";
-	private static final String USER_AGENT = "user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) " +
-		"AppleWebKit/537.36 (KHTML, like Gecko) Chrome/91.0.4472.124 Safari/537.36";
+	private static final String PRODUCT_SELECTOR = ".search-product";
 
-	@Value("${selenium.chromedriver-path}")
-	private String chromeDriverPath;
-
-	private final ProductService productService;
+	private final WebDriverPool webDriverPool;
+	private final HtmlPageFetcher htmlPageFetcher;
+	private final boolean browserless;
+	private final String searchUrl;
 
 	/**
 	 * CoupangApiService 생성자
 	 *
-	 * @param productService 상품 저장을 위한 서비스
+	 * @param webDriverPool   크롤링용 브라우저 풀
+	 * @param htmlPageFetcher 브라우저 없이 페이지를 가져오는 HTTP 클라이언트
+	 * @param browserless     브라우저 없이 먼저 시도할지 여부
+	 * @param searchUrl       검색 결과 페이지 주소 형식 (%s에 인코딩된 키워드)
 	 */
-	public CoupangApiService(ProductService productService) {
-		this.productService = productService;
+	public CoupangApiService(
+		WebDriverPool webDriverPool,
+		HtmlPageFetcher htmlPageFetcher,
+		@Value("${crawl.coupang.browserless:true}") boolean browserless,
+		@Value("${crawl.coupang.search-url:" + COUPANG_SEARCH_URL + "}") String searchUrl) {
+		this.webDriverPool = webDriverPool;
+		this.htmlPageFetcher = htmlPageFetcher;
+		this.browserless = browserless;
+		this.searchUrl = searchUrl;
 	}
 
 	/**
@@ -48,46 +64,62 @@ public class CoupangApiService {
 	 * @return 크롤링된 상품 리스트
 	 */
 	public List<Product> searchItems(String query) {
-		List<Product> productList = new ArrayList<>();
-		System.setProperty("webdriver.chrome.driver", chromeDriverPath);
-
-		ChromeOptions options = new ChromeOptions();
-		options.addArguments(USER_AGENT);
-
-		WebDriver driver = new ChromeDriver(options);
+		String url = String.format(searchUrl, URLEncoder.encode(query, StandardCharsets.UTF_8));
+		if (browserless) {
+			Optional<Document> page = htmlPageFetcher.fetch(url, PRODUCT_SELECTOR);
+			List<Product> productList = page.map(document -> parse(document, query)).orElse(List.of());
+			if (!productList.isEmpty()) {
+				return productList;
+			}
+			log.info("🌐 [쿠팡] 브라우저로 다시 시도 (키워드: {})", query);
+		}
 
-		try {
-			String encodedQuery = URLEncoder.encode(query, StandardCharsets.UTF_8);
-			String searchUrl = String.format(COUPANG_SEARCH_URL, encodedQuery);
-
-			driver.get(searchUrl);
-			WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(90));
-			wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector(".search-product")));
-
-			List<WebElement> products = driver.findElements(By.cssSelector(".search-product"));
-
-			for (WebElement productElement : products) {
-				try {
-					Product productEntity = extractProductInfo(productElement, query);
-					if (productEntity != null) {
-						productList.add(productEntity);
-						productService.saveItems(List.of(productEntity), query);
-					}
-				} catch (NoSuchElementException e) {
-					log.warn("요소를 찾을 수 없음: {}", e.getMessage());
-				}
+		List<Product> productList = new ArrayList<>();
+		try (WebDriverPool.Lease lease = webDriverPool.lease()) {
+			try {
+				crawl(lease.driver(), url, query, productList);
+			} catch (TimeoutException e) {
+				log.error("페이지 로딩 시간 초과: {}", e.getMessage());
+			} catch (WebDriverException e) {
+				lease.invalidate(); // 브라우저 오류가 난 드라이버는 재사용하지 않음
+				log.error("크롤링 중 브라우저 오류 발생: {}", e.getMessage());
 			}
-		} catch (TimeoutException e) {
-			log.error("페이지 로딩 시간 초과: {}", e.getMessage());
 		} catch (Exception e) {
 			log.error("크롤링 중 오류 발생: {}", e.getMessage());
-		} finally {
-			driver.quit(); // 크롤링 후 브라우저 종료
 		}
 
 		return productList;
 	}
 
+	/**
+	 * 빌린 드라이버로 검색 결과 페이지를 열고, 상품 목록이 렌더링되면 페이지 HTML에서 상품을 추출합니다.
+	 */
+	private void crawl(WebDriver driver, String url, String query, List<Product> productList) {
+		driver.get(url);
+		WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(90));
+		wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector(PRODUCT_SELECTOR)));
+
+		productList.addAll(parse(Jsoup.parse(driver.getPageSource(), url), query));
+	}
+
+	/**
+	 * 검색 결과 페이지에서 상품을 추출합니다.
+	 *
+	 * @param document 검색 결과 페이지
+	 * @param query    검색 키워드
+	 * @return 추출된 상품 리스트
+	 */
+	static List<Product> parse(Document document, String query) {
+		List<Product> productList = new ArrayList<>();
+		for (Element productElement : document.select(PRODUCT_SELECTOR)) {
+			Product productEntity = extractProductInfo(productElement, query);
+			if (productEntity != null) {
+				productList.add(productEntity);
+			}
+		}
+		return productList;
+	}
+
 	/**
 	 * 개별 상품 정보를 추출하여 Product 객체를 생성합니다.
 	 *
@@ -95,32 +127,43 @@ public class CoupangApiService {
 	 * @param query          검색 키워드
 	 * @return Product 객체 (추출 실패 시 null 반환)
 	 */
-	private Product extractProductInfo(WebElement productElement, String query) {
-		try {
-			String title = productElement.findElement(By.cssSelector(".name")).getText();
-			String priceText = productElement.findElement(By.cssSelector(".price-value"))
-				.getText().replaceAll("[^0-9]", "");
-			Integer price = priceText.isEmpty() ? 0 : Integer.parseInt(priceText);
-			String imageUrl = productElement.findElement(By.tagName("img")).getAttribute("src");
-			String link = productElement.findElement(By.tagName("a")).getAttribute("href");
-
-			// 쿠팡 상품의 고유 ID 추출
-			String productId = extractProductId(link);
-
-			Product product = new Product();
-			product.setTitle(title);
-			product.setPrice(price);
-			product.setImage(imageUrl);
-			product.setMallName("Coupang");
-			product.setLink(link);
-			product.setKeyword(query);
-			product.setProductId(productId);
-
-			return product;
-		} catch (NoSuchElementException e) {
-			log.warn("상품 정보 추출 실패: {}", e.getMessage());
+	private static Product extractProductInfo(Element productElement, String query) {
+		Element name = productElement.selectFirst(".name");
+		Element priceValue = productElement.selectFirst(".price-value");
+		Element image = productElement.selectFirst("img");
+		Element anchor = productElement.selectFirst("a");
+		if (name == null || priceValue == null || image == null || anchor == null) {
+			log.warn("상품 정보 추출 실패: 필수 요소 없음");
 			return null;
 		}
+
+		String title = name.text();
+		String priceText = priceValue.text().replaceAll("[^0-9]", "");
+		Integer price = priceText.isEmpty() ? 0 : Integer.parseInt(priceText);
+		String imageUrl = absoluteUrl(image, "src");
+		String link = absoluteUrl(anchor, "href");
+
+		// 쿠팡 상품의 고유 ID 추출
+		String productId = extractProductId(link);
+
+		Product product = new Product();
+		product.setTitle(title);
+		product.setPrice(price);
+		product.setImage(imageUrl);
+		product.setMallName("Coupang");
+		product.setLink(link);
+		product.setKeyword(query);
+		product.setProductId(productId);
+
+		return product;
+	}
+
+	/**
+	 * 속성 값을 페이지 주소 기준의 절대 주소로 반환합니다. (브라우저의 src, href 속성 값과 같음)
+	 */
+	private static String absoluteUrl(Element element, String attribute) {
+		String url = element.absUrl(attribute);
+		return url.isEmpty() ? element.attr(attribute) : url;
 	}
 
 	/**
@@ -129,7 +172,7 @@ public class CoupangApiService {
 	 * @param link 상품 링크
 	 * @return 추출된 상품 ID
 	 */
-	private String extractProductId(String link) {
+	private static String extractProductId(String link) {
 		try {
 			return link.split("\\?")[0].split("/")[5];
 		} catch (ArrayIndexOutOfBoundsException e) {
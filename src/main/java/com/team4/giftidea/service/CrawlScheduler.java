@@ -0,0 +1,238 @@
+package com.team4.giftidea.service;
+
+import com.team4.giftidea.entity.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 판매처별 키워드 크롤링을 동시에 실행하는 스케줄러
+ * 판매처마다 동시 실행 수만큼의 전용 스레드와 분당 요청 수 제한을 두어, 쿠팡과 Kream이 동시에 진행되면서도
+ * 한 판매처에 요청이 몰리지 않게 합니다. 크롤링은 동시에 진행하고 DB 저장은 한 번에 한 키워드씩 처리합니다.
+ * 실행이 끝나면 키워드별 대기/크롤링/저장 시간을 담은 보고서를 남겨 제한 값을 조정할 수 있게 합니다.
+ */
+@Service
+@Slf4j
+public class CrawlScheduler {
+
+	private final Map<String, MallCrawler> crawlers;
+	private final ProductService productService;
+	private final MeterRegistry meterRegistry;
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final Object saveLock = new Object();
+
+	@Autowired
+	public CrawlScheduler(
+		CoupangApiService coupangApiService,
+		KreamApiService kreamApiService,
+		ProductService productService,
+		MeterRegistry meterRegistry,
+		@Value("${crawl.coupang.concurrency:2}") int coupangConcurrency,
+		@Value("${crawl.coupang.requests-per-minute:12}") int coupangRpm,
+		@Value("${crawl.kream.concurrency:1}") int kreamConcurrency,
+		@Value("${crawl.kream.requests-per-minute:12}") int kreamRpm) {
+		this(Map.of(
+				"coupang", new MallCrawler(coupangApiService::searchItems, coupangConcurrency, coupangRpm),
+				"kream", new MallCrawler(kreamApiService::searchItems, kreamConcurrency, kreamRpm)),
+			productService, meterRegistry);
+	}
+
+	CrawlScheduler(Map<String, MallCrawler> crawlers, ProductService productService, MeterRegistry meterRegistry) {
+		this.crawlers = crawlers;
+		this.productService = productService;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 판매처별 키워드를 동시에 크롤링하고 키워드마다 결과를 저장합니다.
+	 * 한 키워드의 실패는 보고서에 기록되고 나머지 키워드는 계속 진행됩니다.
+	 * 검색 결과가 비어 있는 키워드도 실패로 기록합니다.
+	 *
+	 * @param keywordsByMall 판매처 이름(coupang, kream) → 검색 키워드
+	 * @return 키워드별 소요 시간 보고서
+	 */
+	public CrawlReport crawl(Map<String, List<String>> keywordsByMall) {
+		if (!running.compareAndSet(false, true)) {
+			throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 크롤링이 진행 중입니다.");
+		}
+		LocalDateTime startedAt = LocalDateTime.now();
+		long start = System.currentTimeMillis();
+		List<ExecutorService> executors = new ArrayList<>();
+		try {
+			List<CompletableFuture<KeywordTiming>> futures = new ArrayList<>();
+			keywordsByMall.forEach((mall, keywords) -> {
+				MallCrawler crawler = crawlers.get(mall);
+				if (crawler == null) {
+					throw new IllegalArgumentException("알 수 없는 판매처: " + mall);
+				}
+				ExecutorService executor = newExecutor(mall, crawler.concurrency());
+				executors.add(executor);
+				RateLimiter limiter = new RateLimiter(crawler.requestsPerMinute());
+				long submittedAt = System.nanoTime();
+				for (String keyword : keywords) {
+					futures.add(CompletableFuture.supplyAsync(
+						() -> crawlKeyword(mall, keyword, crawler, limiter, submittedAt), executor));
+				}
+			});
+
+			List<KeywordTiming> timings = futures.stream().map(CompletableFuture::join).toList();
+			CrawlReport report = new CrawlReport(startedAt, System.currentTimeMillis() - start, timings);
+			logReport(report);
+			return report;
+		} finally {
+			executors.forEach(ExecutorService::shutdownNow);
+			running.set(false);
+		}
+	}
+
+	private KeywordTiming crawlKeyword(String mall, String keyword, MallCrawler crawler, RateLimiter limiter,
+		long submittedAt) {
+		String error = null;
+		int count = 0;
+		long crawlNanos = 0;
+		long saveNanos = 0;
+		long waitNanos = 0;
+		try {
+			limiter.acquire();
+			long crawlStart = System.nanoTime();
+			waitNanos = crawlStart - submittedAt;
+			List<Product> products = crawler.search().apply(keyword);
+			crawlNanos = System.nanoTime() - crawlStart;
+			count = products.size();
+
+			if (products.isEmpty()) {
+				// 크롤러는 차단이나 파싱 오류를 빈 결과로 돌려주므로, 이 키워드의 기존 상품이 만료되지 않도록 실패로 기록
+				error = "검색 결과 없음";
+				log.warn("⚠️ [{}] 크롤링 실패 또는 검색 결과 없음 (키워드: {})", mall, keyword);
+			} else {
+				long saveStart = System.nanoTime();
+				synchronized (saveLock) {
+					productService.upsertItems(products, keyword);
+				}
+				saveNanos = System.nanoTime() - saveStart;
+				log.info("✅ [{}] 크롤링 및 저장 완료 (키워드: {}, {}개)", mall, keyword, count);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			error = "중단됨";
+		} catch (Exception e) {
+			error = e.getMessage();
+			log.error("❌ [{}] 크롤링 실패 (키워드: {}): {}", mall, keyword, e.getMessage());
+		}
+		meterRegistry.timer("crawl.keyword", "mall", mall, "outcome", error == null ? "success" : "failure")
+			.record(crawlNanos, TimeUnit.NANOSECONDS);
+		return new KeywordTiming(mall, keyword, count, TimeUnit.NANOSECONDS.toMillis(waitNanos),
+			TimeUnit.NANOSECONDS.toMillis(crawlNanos), TimeUnit.NANOSECONDS.toMillis(saveNanos), error);
+	}
+
+	private static void logReport(CrawlReport report) {
+		StringBuilder table = new StringBuilder();
+		report.keywords().stream()
+			.sorted(Comparator.comparingLong(KeywordTiming::crawlMillis).reversed())
+			.forEach(timing -> table.append(String.format("%n  %-8s %-16s 상품 %3d개  대기 %6dms  크롤링 %6dms  저장 %5dms%s",
+				timing.mall(), timing.keyword(), timing.products(), timing.waitMillis(), timing.crawlMillis(),
+				timing.saveMillis(), timing.error() == null ? "" : "  ❌ " + timing.error())));
+		Map<String, long[]> byMall = new LinkedHashMap<>();
+		report.keywords().forEach(timing -> {
+			long[] sums = byMall.computeIfAbsent(timing.mall(), key -> new long[2]);
+			sums[0] += timing.crawlMillis();
+			sums[1] += timing.products();
+		});
+		byMall.forEach((mall, sums) -> table.append(String.format("%n  [%s] 크롤링 합계 %dms, 상품 %d개", mall, sums[0], sums[1])));
+		log.info("📊 크롤링 보고서 - 전체 {}ms, 키워드 {}개, 실패 {}개{}",
+			report.totalMillis(), report.keywords().size(), report.failures(), table);
+	}
+
+	private static ExecutorService newExecutor(String mall, int concurrency) {
+		AtomicInteger threadCount = new AtomicInteger();
+		return Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+			Thread thread = new Thread(runnable, "crawl-" + mall + "-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * 판매처 하나의 크롤러와 제한 값
+	 *
+	 * @param search            키워드 → 크롤링한 상품
+	 * @param concurrency       동시에 크롤링할 키워드 수
+	 * @param requestsPerMinute 분당 시작할 수 있는 키워드 수
+	 */
+	record MallCrawler(Function<String, List<Product>> search, int concurrency, int requestsPerMinute) {
+	}
+
+	/**
+	 * 요청 시작 간격을 60초 / requestsPerMinute 이상으로 벌리는 제한기
+	 */
+	static final class RateLimiter {
+
+		private final long intervalNanos;
+		private long next;
+
+		RateLimiter(int requestsPerMinute) {
+			this.intervalNanos = requestsPerMinute <= 0 ? 0 : TimeUnit.MINUTES.toNanos(1) / requestsPerMinute;
+			this.next = System.nanoTime();
+		}
+
+		void acquire() throws InterruptedException {
+			long wait;
+			synchronized (this) {
+				long now = System.nanoTime();
+				long at = Math.max(now, next);
+				next = at + intervalNanos;
+				wait = at - now;
+			}
+			if (wait > 0) {
+				TimeUnit.NANOSECONDS.sleep(wait);
+			}
+		}
+	}
+
+	/**
+	 * 키워드 하나의 크롤링 결과
+	 *
+	 * @param mall        판매처
+	 * @param keyword     검색 키워드
+	 * @param products    크롤링한 상품 수
+	 * @param waitMillis  실행 대기 시간 (스레드와 분당 요청 수 제한 대기 포함)
+	 * @param crawlMillis 크롤링 시간
+	 * @param saveMillis  DB 저장 시간
+	 * @param error       실패 사유 (성공이면 null)
+	 */
+	public record KeywordTiming(String mall, String keyword, int products, long waitMillis, long crawlMillis,
+		long saveMillis, String error) {
+	}
+
+	/**
+	 * 크롤링 실행 보고서
+	 *
+	 * @param startedAt   크롤링 시작 시각
+	 * @param totalMillis 전체 소요 시간
+	 * @param keywords    키워드별 결과 (요청 순서)
+	 */
+	public record CrawlReport(LocalDateTime startedAt, long totalMillis, List<KeywordTiming> keywords) {
+
+		public long failures() {
+			return keywords.stream().filter(timing -> timing.error() != null).count();
+		}
+	}
+}
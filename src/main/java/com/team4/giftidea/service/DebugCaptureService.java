@@ -0,0 +1,198 @@
+package com.team4.giftidea.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 전처리된 대화 청크를 디버깅용 파일로 남기는 서비스 클래스
+ * 요청 스레드는 대기열에 넣기만 하고 파일 쓰기는 별도 스레드에서 처리합니다.
+ * 대기열이 가득 차면 기록을 버리며, 비활성화 상태에서는 스레드와 대기열을 만들지 않습니다.
+ */
+@Service
+@Slf4j
+public class DebugCaptureService {
+
+	private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+	private final boolean enabled;
+	private final double sampleRate;
+	private final Path directory;
+	private final int maxFiles;
+	private final int maxFileBytes;
+	private final BlockingQueue<String> queue;
+	private final Deque<Path> writtenFiles = new ArrayDeque<>();
+	private final AtomicLong droppedCount = new AtomicLong();
+	private final Thread writerThread;
+
+	/**
+	 * @param enabled       기록 사용 여부
+	 * @param sampleRate    기록할 요청 비율 (0.0 ~ 1.0, 예: 0.01 = 1%)
+	 * @param directory     기록 파일 디렉터리
+	 * @param maxFiles      보관할 최대 파일 수 (초과 시 오래된 파일부터 삭제)
+	 * @param maxFileSize   파일 하나의 최대 크기 (초과분은 잘라냄)
+	 * @param queueCapacity 쓰기 대기열 크기
+	 */
+	public DebugCaptureService(
+		@Value("${debug-capture.enabled:false}") boolean enabled,
+		@Value("${debug-capture.sample-rate:0.01}") double sampleRate,
+		@Value("${debug-capture.directory:${user.home}/processed_kakaochat}") String directory,
+		@Value("${debug-capture.max-files:100}") int maxFiles,
+		@Value("${debug-capture.max-file-size:1MB}") DataSize maxFileSize,
+		@Value("${debug-capture.queue-capacity:64}") int queueCapacity) {
+		this(enabled, sampleRate, directory, maxFiles, maxFileSize, queueCapacity, true);
+	}
+
+	/**
+	 * @param startWriter false이면 쓰기 스레드를 만들지 않음 (테스트에서 {@link #flush()}로 직접 기록)
+	 */
+	DebugCaptureService(boolean enabled, double sampleRate, String directory, int maxFiles, DataSize maxFileSize,
+		int queueCapacity, boolean startWriter) {
+		this.enabled = enabled && sampleRate > 0;
+		this.sampleRate = sampleRate;
+		this.directory = Path.of(directory);
+		this.maxFiles = maxFiles;
+		this.maxFileBytes = (int) Math.min(Integer.MAX_VALUE, maxFileSize.toBytes());
+
+		if (!this.enabled) {
+			this.queue = null;
+			this.writerThread = null;
+			return;
+		}
+
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		loadExistingFiles();
+		if (!startWriter) {
+			this.writerThread = null;
+			return;
+		}
+		this.writerThread = new Thread(this::drain, "debug-capture");
+		this.writerThread.setDaemon(true);
+		this.writerThread.start();
+		log.info("📝 대화 청크 디버그 기록 활성화 - 디렉터리: {}, 샘플링: {}", this.directory, sampleRate);
+	}
+
+	/**
+	 * 샘플링 조건을 만족하면 대화 청크를 기록 대기열에 넣습니다. 요청 스레드를 막지 않습니다.
+	 *
+	 * @param chunk 전처리된 대화 청크
+	 */
+	public void capture(String chunk) {
+		if (!enabled) {
+			return;
+		}
+		if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+			return;
+		}
+		if (!queue.offer(chunk)) {
+			long dropped = droppedCount.incrementAndGet();
+			log.debug("디버그 기록 대기열이 가득 차 기록을 건너뜁니다. (누적 {}건)", dropped);
+		}
+	}
+
+	/**
+	 * @return 대기열이 가득 차 버린 기록 수
+	 */
+	long droppedCount() {
+		return droppedCount.get();
+	}
+
+	/**
+	 * @return 기록을 기다리는 청크 수
+	 */
+	int pendingCount() {
+		return queue == null ? 0 : queue.size();
+	}
+
+	/**
+	 * 대기열에 남은 청크를 호출한 스레드에서 바로 기록합니다.
+	 */
+	void flush() throws IOException {
+		String chunk;
+		while (queue != null && (chunk = queue.poll()) != null) {
+			write(chunk);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (writerThread != null) {
+			writerThread.interrupt();
+		}
+	}
+
+	private void drain() {
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				write(queue.take());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (Exception e) {
+				log.error("디버그 기록 저장 오류: ", e);
+			}
+		}
+	}
+
+	private void write(String chunk) throws IOException {
+		Files.createDirectories(directory);
+		String fileName = "processed_kakaochat-" + LocalDateTime.now().format(FILE_TIME_FORMAT) + "-"
+			+ UUID.randomUUID().toString().substring(0, 8) + ".txt";
+		Path file = directory.resolve(fileName);
+
+		byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+		int length = utf8Boundary(bytes, Math.min(bytes.length, maxFileBytes));
+		try (OutputStream out = Files.newOutputStream(file)) {
+			out.write(bytes, 0, length);
+		}
+		log.debug("전처리 결과 기록: {} ({} bytes)", file, length);
+
+		writtenFiles.addLast(file);
+		while (writtenFiles.size() > maxFiles) {
+			Files.deleteIfExists(writtenFiles.removeFirst());
+		}
+	}
+
+	/**
+	 * 잘라낸 위치가 UTF-8 문자 중간이면 해당 문자의 시작 위치로 당깁니다.
+	 */
+	private static int utf8Boundary(byte[] bytes, int length) {
+		if (length == bytes.length) {
+			return length;
+		}
+		while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+			length--;
+		}
+		return length;
+	}
+
+	private void loadExistingFiles() {
+		if (!Files.isDirectory(directory)) {
+			return;
+		}
+		try (Stream<Path> files = Files.list(directory)) {
+			files.filter(file -> file.getFileName().toString().startsWith("processed_kakaochat-"))
+				.sorted()
+				.forEach(writtenFiles::addLast);
+		} catch (IOException e) {
+			log.warn("기존 디버그 기록 목록 조회 실패: {}", e.getMessage());
+		}
+	}
+}
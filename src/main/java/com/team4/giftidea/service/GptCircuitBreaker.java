@@ -0,0 +1,90 @@
+package com.team4.giftidea.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+/**
+ * GPT 호출용 서킷 브레이커
+ * 연속 실패가 임계치에 도달하면 일정 시간 동안 호출을 차단(OPEN)하고,
+ * 이후 한 건의 시험 호출(HALF_OPEN)이 성공하면 다시 허용(CLOSED)합니다.
+ */
+@Slf4j
+public final class GptCircuitBreaker {
+
+	public enum State { CLOSED, OPEN, HALF_OPEN }
+
+	private final int failureThreshold;
+	private final long openMillis;
+
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long openedAt;
+	private boolean trialInFlight;
+
+	/**
+	 * @param failureThreshold 차단을 시작할 연속 실패 횟수
+	 * @param openDuration     차단 유지 시간
+	 */
+	public GptCircuitBreaker(int failureThreshold, Duration openDuration) {
+		this.failureThreshold = failureThreshold;
+		this.openMillis = openDuration.toMillis();
+	}
+
+	/**
+	 * 호출 가능 여부를 확인합니다. HALF_OPEN 상태에서는 한 건만 허용합니다.
+	 *
+	 * @return 호출을 진행해도 되면 true
+	 */
+	public synchronized boolean tryAcquire() {
+		if (state == State.OPEN) {
+			if (System.currentTimeMillis() - openedAt < openMillis) {
+				return false;
+			}
+			state = State.HALF_OPEN;
+			trialInFlight = false;
+		}
+		if (state == State.HALF_OPEN) {
+			if (trialInFlight) {
+				return false;
+			}
+			trialInFlight = true;
+		}
+		return true;
+	}
+
+	public synchronized void recordSuccess() {
+		if (state != State.CLOSED) {
+			log.info("✅ GPT 서킷 브레이커 복구 (CLOSED)");
+		}
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+		trialInFlight = false;
+	}
+
+	public synchronized void recordFailure() {
+		consecutiveFailures++;
+		if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+			if (state != State.OPEN) {
+				log.warn("⚠️ GPT 서킷 브레이커 차단 (연속 실패 {}회, {}ms 동안 OPEN)", consecutiveFailures, openMillis);
+			}
+			state = State.OPEN;
+			openedAt = System.currentTimeMillis();
+			trialInFlight = false;
+		}
+	}
+
+	/**
+	 * 결과 없이 끝난 호출(취소, 인터럽트 등)의 시험 호출 자리를 반납합니다.
+	 * 상태는 바꾸지 않으며, HALF_OPEN 상태에서 다음 호출이 다시 시험 호출을 할 수 있게 합니다.
+	 */
+	public synchronized void releaseTrial() {
+		if (state == State.HALF_OPEN) {
+			trialInFlight = false;
+		}
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+}
@@ -0,0 +1,255 @@
+package com.team4.giftidea.service;
+
+import com.team4.giftidea.configuration.GptConfig;
+import com.team4.giftidea.dto.GptRequestDTO;
+import com.team4.giftidea.dto.GptResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OpenAI Chat Completions API 전용 클라이언트
+ * 커넥션 풀을 사용하는 RestTemplate 위에 서킷 브레이커, 지터를 적용한 재시도, 선택적 헤지 요청을 적용하고
+ * 지연 시간과 커넥션 풀 사용량을 지표로 내보냅니다.
+ */
+@Service
+@Slf4j
+public class GptClient {
+
+	private final RestTemplate restTemplate;
+	private final GptConfig gptConfig;
+	private final GptCircuitBreaker circuitBreaker;
+	private final int maxAttempts;
+	private final Duration retryBaseDelay;
+	private final Duration retryMaxDelay;
+	private final boolean hedgeEnabled;
+	private final Duration hedgeDelay;
+	private final ExecutorService hedgeExecutor;
+
+	private final Timer successTimer;
+	private final Timer failureTimer;
+	private final Counter retryCounter;
+	private final Counter hedgeCounter;
+
+	/**
+	 * @param restTemplate          커넥션 풀 기반 OpenAI API 호출용 RestTemplate
+	 * @param gptConfig             OpenAI 설정
+	 * @param connectionManager     OpenAI API 커넥션 풀 (지표 수집용)
+	 * @param meterRegistry         지표 레지스트리
+	 * @param maxAttempts           최대 시도 횟수 (첫 호출 포함)
+	 * @param retryBaseDelay        재시도 대기 시간의 기준값 (시도마다 두 배, 0 ~ 해당 값 사이 무작위)
+	 * @param retryMaxDelay         재시도 대기 시간의 상한
+	 * @param failureThreshold      서킷 브레이커를 여는 연속 실패 횟수
+	 * @param openDuration          서킷 브레이커 차단 유지 시간
+	 * @param hedgeEnabled          헤지 요청 사용 여부
+	 * @param hedgeDelay            첫 요청이 이 시간 안에 끝나지 않으면 두 번째 요청을 보냄
+	 */
+	public GptClient(
+		RestTemplate restTemplate,
+		GptConfig gptConfig,
+		PoolingHttpClientConnectionManager connectionManager,
+		MeterRegistry meterRegistry,
+		@Value("${openai.client.retry.max-attempts:3}") int maxAttempts,
+		@Value("${openai.client.retry.base-delay:200ms}") Duration retryBaseDelay,
+		@Value("${openai.client.retry.max-delay:2s}") Duration retryMaxDelay,
+		@Value("${openai.client.circuit-breaker.failure-threshold:5}") int failureThreshold,
+		@Value("${openai.client.circuit-breaker.open-duration:30s}") Duration openDuration,
+		@Value("${openai.client.hedge.enabled:false}") boolean hedgeEnabled,
+		@Value("${openai.client.hedge.delay:5s}") Duration hedgeDelay) {
+		this.restTemplate = restTemplate;
+		this.gptConfig = gptConfig;
+		this.circuitBreaker = new GptCircuitBreaker(failureThreshold, openDuration);
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.retryBaseDelay = retryBaseDelay;
+		this.retryMaxDelay = retryMaxDelay;
+		this.hedgeEnabled = hedgeEnabled;
+		this.hedgeDelay = hedgeDelay;
+		this.hedgeExecutor = hedgeEnabled ? Executors.newVirtualThreadPerTaskExecutor() : null;
+
+		this.successTimer = meterRegistry.timer("gpt.client.requests", "outcome", "success");
+		this.failureTimer = meterRegistry.timer("gpt.client.requests", "outcome", "failure");
+		this.retryCounter = meterRegistry.counter("gpt.client.retries");
+		this.hedgeCounter = meterRegistry.counter("gpt.client.hedges");
+		meterRegistry.gauge("gpt.client.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal());
+		meterRegistry.gauge("gpt.client.pool.leased", connectionManager, cm -> cm.getTotalStats().getLeased());
+		meterRegistry.gauge("gpt.client.pool.available", connectionManager, cm -> cm.getTotalStats().getAvailable());
+		meterRegistry.gauge("gpt.client.pool.pending", connectionManager, cm -> cm.getTotalStats().getPending());
+		meterRegistry.gauge("gpt.client.pool.max", connectionManager, cm -> cm.getTotalStats().getMax());
+	}
+
+	/**
+	 * GPT 요청을 보내고 응답을 반환합니다.
+	 * 네트워크 오류, 5xx, 429 응답은 지터를 적용한 지수 백오프로 재시도하며,
+	 * 서킷 브레이커가 열려 있으면 호출하지 않고 503으로 실패합니다.
+	 *
+	 * @param request GPT 요청
+	 * @return GPT 응답
+	 */
+	public GptResponseDTO complete(GptRequestDTO request) {
+		if (!circuitBreaker.tryAcquire()) {
+			throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "GPT 호출이 일시적으로 차단되었습니다.");
+		}
+
+		boolean recorded = false;
+		try {
+			for (int attempt = 1; ; attempt++) {
+				long start = System.nanoTime();
+				try {
+					GptResponseDTO response = hedgeEnabled ? postHedged(request) : post(request);
+					successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+					circuitBreaker.recordSuccess();
+					recorded = true;
+					return response;
+				} catch (RuntimeException e) {
+					failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+					if (!isRetryable(e)) {
+						// 요청 자체의 오류(4xx)는 OpenAI 장애가 아니므로 서킷 브레이커에 반영하지 않음
+						circuitBreaker.recordSuccess();
+						recorded = true;
+						throw e;
+					}
+					if (attempt >= maxAttempts) {
+						circuitBreaker.recordFailure();
+						recorded = true;
+						throw e;
+					}
+					long backoff = backoffMillis(attempt);
+					log.warn("GPT 요청 실패 ({}번째 시도), {}ms 후 재시도: {}", attempt, backoff, e.getMessage());
+					retryCounter.increment();
+					sleep(backoff);
+				}
+			}
+		} finally {
+			if (!recorded) {
+				// 재시도 대기 중 인터럽트 등 결과 없이 끝나면 HALF_OPEN 시험 호출 자리만 반납
+				circuitBreaker.releaseTrial();
+			}
+		}
+	}
+
+	/**
+	 * 스트리밍 호출 전에 서킷 브레이커 상태를 확인합니다.
+	 *
+	 * @return 호출을 진행해도 되면 true
+	 */
+	public boolean tryAcquire() {
+		return circuitBreaker.tryAcquire();
+	}
+
+	/**
+	 * 스트리밍 호출 결과를 서킷 브레이커에 반영합니다.
+	 *
+	 * @param success 호출 성공 여부
+	 */
+	public void recordResult(boolean success) {
+		if (success) {
+			circuitBreaker.recordSuccess();
+		} else {
+			circuitBreaker.recordFailure();
+		}
+	}
+
+	/**
+	 * 결과 없이 끝난 스트리밍 호출(구독 취소)의 서킷 브레이커 시험 호출 자리를 반납합니다.
+	 */
+	public void releaseTrial() {
+		circuitBreaker.releaseTrial();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (hedgeExecutor != null) {
+			hedgeExecutor.shutdownNow();
+		}
+	}
+
+	private GptResponseDTO post(GptRequestDTO request) {
+		return restTemplate.postForObject(gptConfig.getApiUrl(), request, GptResponseDTO.class);
+	}
+
+	/**
+	 * 첫 요청이 hedgeDelay 안에 끝나지 않으면 같은 요청을 한 번 더 보내고, 먼저 성공한 응답을 사용합니다.
+	 */
+	private GptResponseDTO postHedged(GptRequestDTO request) {
+		CompletableFuture<GptResponseDTO> primary = CompletableFuture.supplyAsync(() -> post(request), hedgeExecutor);
+		try {
+			return primary.get(hedgeDelay.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			log.debug("GPT 응답 지연으로 헤지 요청 전송 ({}ms 초과)", hedgeDelay.toMillis());
+		} catch (ExecutionException e) {
+			throw unwrap(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ResourceAccessException("GPT 요청 대기 중 인터럽트 발생");
+		}
+
+		hedgeCounter.increment();
+		CompletableFuture<GptResponseDTO> hedge = CompletableFuture.supplyAsync(() -> post(request), hedgeExecutor);
+		CompletableFuture<GptResponseDTO> winner = new CompletableFuture<>();
+		AtomicInteger failures = new AtomicInteger();
+		for (CompletableFuture<GptResponseDTO> attempt : List.of(primary, hedge)) {
+			attempt.whenComplete((response, error) -> {
+				if (error == null) {
+					winner.complete(response);
+				} else if (failures.incrementAndGet() == 2) {
+					winner.completeExceptionally(error);
+				}
+			});
+		}
+		try {
+			return winner.join();
+		} catch (CompletionException e) {
+			throw unwrap(e.getCause());
+		}
+	}
+
+	private static RuntimeException unwrap(Throwable error) {
+		while (error instanceof CompletionException && error.getCause() != null) {
+			error = error.getCause();
+		}
+		return error instanceof RuntimeException runtime ? runtime : new ResourceAccessException(error.getMessage());
+	}
+
+	private static boolean isRetryable(RuntimeException e) {
+		return e instanceof ResourceAccessException
+			|| e instanceof HttpServerErrorException
+			|| e instanceof HttpClientErrorException.TooManyRequests;
+	}
+
+	private long backoffMillis(int attempt) {
+		long ceiling = Math.min(retryMaxDelay.toMillis(), retryBaseDelay.toMillis() << Math.min(attempt - 1, 20));
+		return ThreadLocalRandom.current().nextLong(ceiling + 1);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ResourceAccessException("GPT 재시도 대기 중 인터럽트 발생");
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package com.team4.giftidea.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * GPT 호출 동시 실행 수 제한기
+ * 일반 호출과 스트리밍 호출이 하나의 허가 수와 대기열을 함께 사용합니다.
+ * 허가는 CompletableFuture로 넘겨주므로 기다리는 동안 스레드를 점유하지 않으며,
+ * 대기열이 가득 차면 {@link RejectedExecutionException}으로 즉시 실패합니다.
+ */
+public final class GptConcurrencyLimiter {
+
+	private final int queueCapacity;
+	private final Deque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+	private int available;
+
+	/**
+	 * @param maxConcurrent 동시에 진행할 수 있는 GPT 호출 수
+	 * @param queueCapacity 허가를 기다릴 수 있는 GPT 호출 수
+	 */
+	public GptConcurrencyLimiter(int maxConcurrent, int queueCapacity) {
+		this.available = Math.max(1, maxConcurrent);
+		this.queueCapacity = Math.max(0, queueCapacity);
+	}
+
+	/**
+	 * 허가를 요청합니다. 남은 허가가 없으면 대기열에 들어가고, 반환된 future를 취소하면 대기열에서 빠집니다.
+	 *
+	 * @return 허가를 받으면 완료되는 future (대기열이 가득 차면 RejectedExecutionException으로 실패)
+	 */
+	public synchronized CompletableFuture<Permit> acquire() {
+		if (available > 0) {
+			available--;
+			return CompletableFuture.completedFuture(new Permit());
+		}
+		if (waiters.size() >= queueCapacity) {
+			return CompletableFuture.failedFuture(new RejectedExecutionException("GPT 호출 대기열 초과"));
+		}
+		CompletableFuture<Permit> waiter = new CompletableFuture<>();
+		waiters.addLast(waiter);
+		waiter.whenComplete((permit, error) -> {
+			if (waiter.isCancelled()) {
+				removeWaiter(waiter);
+			}
+		});
+		return waiter;
+	}
+
+	/**
+	 * @return 허가를 기다리는 호출 수
+	 */
+	public synchronized int waiting() {
+		return waiters.size();
+	}
+
+	/**
+	 * @return 남은 허가 수
+	 */
+	public synchronized int available() {
+		return available;
+	}
+
+	private synchronized void removeWaiter(CompletableFuture<Permit> waiter) {
+		waiters.remove(waiter);
+	}
+
+	/**
+	 * 반납된 허가를 가장 오래 기다린 호출에 넘깁니다. 후속 처리가 잠금 안에서 실행되지 않도록 잠금 밖에서 완료합니다.
+	 */
+	private void release() {
+		while (true) {
+			CompletableFuture<Permit> waiter;
+			synchronized (this) {
+				waiter = waiters.pollFirst();
+				if (waiter == null) {
+					available++;
+					return;
+				}
+			}
+			if (waiter.complete(new Permit())) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * GPT 호출 한 건의 실행 허가 (여러 번 반납해도 한 번만 반영)
+	 */
+	public final class Permit {
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Permit() {
+		}
+
+		public void release() {
+			if (released.compareAndSet(false, true)) {
+				GptConcurrencyLimiter.this.release();
+			}
+		}
+	}
+}
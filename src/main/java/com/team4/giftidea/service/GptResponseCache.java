@@ -0,0 +1,272 @@
+package com.team4.giftidea.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * GPT 응답을 완성된 프롬프트와 모델의 해시로 저장하는 캐시 서비스 클래스
+ * 같은 대화 파일을 다시 업로드하거나 새로고침한 경우 GPT 호출 없이 바로 상품 검색으로 넘어갈 수 있고,
+ * 프롬프트 템플릿이 바뀌면 키도 바뀌므로 이전 템플릿의 응답은 사용되지 않습니다.
+ * 메모리 계층은 LRU + TTL로 크기를 제한하며, 디렉터리를 지정하면 파일 계층에도 저장하여 재시작 후에도 유지됩니다.
+ * 파일 계층은 TTL과 최대 파일 수로 제한하며, 최대 수를 넘으면 오래된 파일부터 삭제합니다.
+ */
+@Service
+@Slf4j
+public class GptResponseCache {
+
+	private final boolean enabled;
+	private final int maxEntries;
+	private final Duration ttl;
+	private final Path persistentDir;
+	private final int maxPersistentEntries;
+	private final AtomicInteger persistentCount = new AtomicInteger();
+	private final Map<String, CacheEntry> entries;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	/**
+	 * @param enabled       캐시 사용 여부
+	 * @param maxEntries    메모리에 보관할 최대 응답 수
+	 * @param ttl           응답 유효 시간
+	 * @param persistentDir 파일 계층 디렉터리 (비어 있으면 메모리 계층만 사용)
+	 * @param maxPersistentEntries 파일 계층에 보관할 최대 응답 수
+	 * @param meterRegistry 적중/실패 지표를 등록할 레지스트리
+	 */
+	public GptResponseCache(
+		@Value("${openai.cache.enabled:true}") boolean enabled,
+		@Value("${openai.cache.max-entries:1000}") int maxEntries,
+		@Value("${openai.cache.ttl:24h}") Duration ttl,
+		@Value("${openai.cache.persistent-dir:}") String persistentDir,
+		@Value("${openai.cache.max-persistent-entries:10000}") int maxPersistentEntries,
+		MeterRegistry meterRegistry) {
+		this.enabled = enabled;
+		this.maxEntries = maxEntries;
+		this.ttl = ttl;
+		this.persistentDir = persistentDir.isBlank() ? null : Path.of(persistentDir);
+		this.maxPersistentEntries = Math.max(1, maxPersistentEntries);
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+				return size() > GptResponseCache.this.maxEntries;
+			}
+		};
+
+		this.hitCounter = meterRegistry.counter("gpt.cache.requests", "result", "hit");
+		this.missCounter = meterRegistry.counter("gpt.cache.requests", "result", "miss");
+		meterRegistry.gauge("gpt.cache.size", this, cache -> cache.size());
+
+		if (this.persistentDir != null) {
+			try {
+				Files.createDirectories(this.persistentDir);
+				persistentCount.set(listPersistent().size());
+			} catch (IOException e) {
+				log.error("GPT 캐시 디렉터리 생성 실패: {}", this.persistentDir, e);
+			}
+		}
+	}
+
+	/**
+	 * GPT에 보낼 프롬프트와 모델로 캐시 키를 생성합니다.
+	 * 프롬프트에는 대화 청크, 주제, 관계·성별로 고른 템플릿 본문이 모두 들어 있으므로,
+	 * 템플릿을 수정하면 이전 응답과 키가 달라집니다.
+	 *
+	 * @param prompt 템플릿을 렌더링한 최종 프롬프트
+	 * @param model  OpenAI 모델명
+	 * @return SHA-256 해시 (16진수 문자열)
+	 */
+	public String keyOf(String prompt, String model) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(String.valueOf(model).getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * 캐시된 GPT 응답을 조회합니다. 메모리에 없으면 파일 계층을 확인하고 메모리로 올립니다.
+	 *
+	 * @param key {@link #keyOf}로 만든 캐시 키
+	 * @return 유효한 응답이 있으면 해당 응답
+	 */
+	public Optional<String> get(String key) {
+		if (!enabled) {
+			return Optional.empty();
+		}
+		long now = System.currentTimeMillis();
+		CacheEntry entry;
+		synchronized (entries) {
+			entry = entries.get(key);
+			if (entry != null && entry.expiresAt() <= now) {
+				entries.remove(key);
+				entry = null;
+			}
+		}
+		if (entry == null) {
+			entry = readPersistent(key, now);
+			if (entry != null) {
+				synchronized (entries) {
+					entries.put(key, entry);
+				}
+			}
+		}
+
+		if (entry == null) {
+			missCounter.increment();
+			return Optional.empty();
+		}
+		hitCounter.increment();
+		log.debug("GPT 캐시 적중 [{}]", key);
+		return Optional.of(entry.value());
+	}
+
+	/**
+	 * GPT 응답을 캐시에 저장합니다.
+	 *
+	 * @param key   {@link #keyOf}로 만든 캐시 키
+	 * @param value 파싱된 GPT 응답
+	 */
+	public void put(String key, String value) {
+		if (!enabled) {
+			return;
+		}
+		CacheEntry entry = new CacheEntry(value, System.currentTimeMillis() + ttl.toMillis());
+		synchronized (entries) {
+			entries.put(key, entry);
+		}
+		writePersistent(key, entry);
+	}
+
+	/**
+	 * @return 메모리 계층에 보관 중인 응답 수
+	 */
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * 파일 계층에서 만료된 응답을 주기적으로 삭제하고, 최대 수를 넘으면 오래된 파일부터 삭제합니다.
+	 */
+	@Scheduled(fixedDelay = 3_600_000L, initialDelay = 3_600_000L)
+	public synchronized void sweepPersistent() {
+		if (persistentDir == null) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		List<Path> files = listPersistent();
+		files.forEach(file -> readPersistent(file.getFileName().toString().replace(".txt", ""), now));
+
+		List<Path> remaining = new ArrayList<>();
+		for (Path file : files) {
+			if (Files.exists(file)) {
+				remaining.add(file);
+			}
+		}
+		// 한 번 넘칠 때마다 정리하지 않도록 최대 수의 90%까지 줄임
+		int excess = remaining.size() > maxPersistentEntries
+			? remaining.size() - maxPersistentEntries * 9 / 10 : 0;
+		if (excess > 0) {
+			remaining.sort(Comparator.comparingLong(GptResponseCache::lastModified));
+			for (Path file : remaining.subList(0, excess)) {
+				try {
+					Files.deleteIfExists(file);
+				} catch (IOException e) {
+					log.warn("GPT 캐시 파일 삭제 실패 [{}]: {}", file.getFileName(), e.getMessage());
+				}
+			}
+			log.info("🧹 GPT 캐시 파일 {}개 삭제 (최대 {}개)", excess, maxPersistentEntries);
+		}
+		persistentCount.set(listPersistent().size());
+	}
+
+	private List<Path> listPersistent() {
+		try (Stream<Path> files = Files.list(persistentDir)) {
+			return files.filter(file -> file.getFileName().toString().endsWith(".txt")).toList();
+		} catch (IOException e) {
+			log.warn("GPT 캐시 디렉터리 조회 실패: {}", e.getMessage());
+			return List.of();
+		}
+	}
+
+	private static long lastModified(Path file) {
+		try {
+			return Files.getLastModifiedTime(file).toMillis();
+		} catch (IOException e) {
+			return 0L;
+		}
+	}
+
+	private CacheEntry readPersistent(String key, long now) {
+		if (persistentDir == null) {
+			return null;
+		}
+		Path file = persistentDir.resolve(key + ".txt");
+		if (!Files.exists(file)) {
+			return null;
+		}
+		try {
+			String content = Files.readString(file, StandardCharsets.UTF_8);
+			int newline = content.indexOf('\n');
+			long expiresAt = Long.parseLong(content.substring(0, newline));
+			if (expiresAt <= now) {
+				if (Files.deleteIfExists(file)) {
+					persistentCount.decrementAndGet();
+				}
+				return null;
+			}
+			return new CacheEntry(content.substring(newline + 1), expiresAt);
+		} catch (IOException | RuntimeException e) {
+			log.warn("GPT 캐시 파일 읽기 실패 [{}]: {}", key, e.getMessage());
+			return null;
+		}
+	}
+
+	private void writePersistent(String key, CacheEntry entry) {
+		if (persistentDir == null) {
+			return;
+		}
+		try {
+			Path target = persistentDir.resolve(key + ".txt");
+			boolean added = !Files.exists(target);
+			Path temp = Files.createTempFile(persistentDir, key, ".tmp");
+			Files.writeString(temp, entry.expiresAt() + "\n" + entry.value(), StandardCharsets.UTF_8);
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			if (added && persistentCount.incrementAndGet() > maxPersistentEntries) {
+				sweepPersistent();
+			}
+		} catch (IOException e) {
+			log.warn("GPT 캐시 파일 저장 실패 [{}]: {}", key, e.getMessage());
+		}
+	}
+
+	private record CacheEntry(String value, long expiresAt) {
+	}
+}
@@ -0,0 +1,280 @@
+package com.team4.giftidea.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.giftidea.configuration.GptConfig;
+import com.team4.giftidea.dto.GptRequestDTO;
+import com.team4.giftidea.dto.GptResponseDTO;
+import com.team4.giftidea.dto.GptStreamChunkDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * OpenAI Chat Completions API를 호출하는 서비스 클래스
+ * 일반 호출과 스트리밍 호출은 하나의 동시 실행 제한({@link GptConcurrencyLimiter})을 함께 사용하며,
+ * 일반 호출은 전용 가상 스레드에서 실행되어 GPT 응답 지연이 Tomcat 요청 스레드를 점유하지 않도록 합니다.
+ */
+@Service
+@Slf4j
+public class GptService {
+
+	private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+		new ParameterizedTypeReference<>() {
+		};
+
+	private final GptClient gptClient;
+	private final WebClient gptWebClient;
+	private final ObjectMapper objectMapper;
+	private final GptConfig gptConfig;
+	private final GptConcurrencyLimiter limiter;
+	private final ExecutorService gptExecutor;
+	private final Duration timeout;
+
+	/**
+	 * @param gptClient      OpenAI API 호출용 클라이언트
+	 * @param gptWebClient   OpenAI API 스트리밍 호출용 WebClient
+	 * @param objectMapper   스트리밍 청크 파싱용 ObjectMapper
+	 * @param gptConfig      OpenAI 설정
+	 * @param maxConcurrent  동시에 진행할 수 있는 GPT 호출 수 (일반 호출과 스트리밍 호출 합계)
+	 * @param queueCapacity  실행을 기다릴 수 있는 GPT 호출 수 (초과 시 503 응답)
+	 * @param timeout        대기 시간을 포함한 GPT 호출 제한 시간
+	 */
+	public GptService(
+		GptClient gptClient,
+		WebClient gptWebClient,
+		ObjectMapper objectMapper,
+		GptConfig gptConfig,
+		@Value("${openai.concurrency.max-concurrent:8}") int maxConcurrent,
+		@Value("${openai.concurrency.queue-capacity:32}") int queueCapacity,
+		@Value("${openai.concurrency.timeout:60s}") Duration timeout) {
+		this.gptClient = gptClient;
+		this.gptWebClient = gptWebClient;
+		this.objectMapper = objectMapper;
+		this.gptConfig = gptConfig;
+		this.timeout = timeout;
+		this.limiter = new GptConcurrencyLimiter(maxConcurrent, queueCapacity);
+		// 동시 실행 수는 limiter가 제한하므로, 허가를 받은 호출마다 가상 스레드 하나를 사용
+		this.gptExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("gpt-", 1).factory());
+	}
+
+	/**
+	 * 실행 허가를 받은 뒤 GPT를 호출하고 결과를 비동기로 반환합니다.
+	 * 대기열이 가득 차면 503(SERVICE_UNAVAILABLE)으로 즉시 실패하고, 제한 시간을 넘기면 대기열에서 빠지거나
+	 * 실행 중인 호출을 인터럽트하여 허가를 돌려준 뒤 504(GATEWAY_TIMEOUT)로 실패합니다.
+	 *
+	 * @param prompt GPT에 전달할 프롬프트
+	 * @return "Categories: ...\n(근거)" 형식의 파싱된 응답
+	 */
+	public CompletableFuture<String> generateTextAsync(String prompt) {
+		CompletableFuture<String> result = new CompletableFuture<>();
+		CompletableFuture<GptConcurrencyLimiter.Permit> permit = limiter.acquire();
+		AtomicReference<Thread> worker = new AtomicReference<>();
+
+		permit.whenComplete((granted, error) -> {
+			if (error != null) {
+				result.completeExceptionally(error instanceof RejectedExecutionException ? overloaded() : error);
+				return;
+			}
+			try {
+				gptExecutor.execute(() -> {
+					worker.set(Thread.currentThread());
+					try {
+						// 허가를 기다리는 사이 제한 시간이 지났으면 호출하지 않음
+						if (!result.isDone()) {
+							result.complete(generateText(prompt));
+						}
+					} catch (RuntimeException e) {
+						result.completeExceptionally(e);
+					} finally {
+						worker.set(null);
+						granted.release();
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				granted.release();
+				result.completeExceptionally(overloaded());
+			}
+		});
+
+		return result
+			.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+			.exceptionally(error -> {
+				if (error instanceof TimeoutException) {
+					permit.cancel(false);
+					Thread running = worker.get();
+					if (running != null) {
+						running.interrupt(); // 재시도 대기를 끊어 허가를 바로 돌려받음
+					}
+					log.warn("⚠️ GPT 호출 제한 시간 초과 ({}ms)", timeout.toMillis());
+					throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "GPT 응답 시간이 초과되었습니다.");
+				}
+				throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+			});
+	}
+
+	/**
+	 * GPT를 호출하고 응답에서 카테고리와 근거 부분을 추출합니다.
+	 *
+	 * 서킷 브레이커 차단이나 재시도 후에도 실패한 OpenAI 장애는 503(SERVICE_UNAVAILABLE)으로 전달합니다.
+	 *
+	 * @param prompt GPT에 전달할 프롬프트
+	 * @return "Categories: ...\n(근거)" 형식의 문자열, 응답 형식이 다르면 오류 메시지
+	 * @throws ResponseStatusException GPT 호출이 차단되었거나 재시도 후에도 실패한 경우
+	 */
+	public String generateText(String prompt) {
+		GptRequestDTO request = new GptRequestDTO(gptConfig.getModel(), prompt, 250);
+		try {
+			GptResponseDTO response = gptClient.complete(request);
+			if (response != null && response.getChoices() != null && !response.getChoices().isEmpty()) {
+				return parseContent(response.getChoices().get(0).getMessage().getContent());
+			}
+			log.warn("GPT 응답이 null이거나 choices가 비어 있습니다.");
+			return "GPT 응답 오류 발생";
+		} catch (ResponseStatusException e) {
+			throw e;
+		} catch (ResourceAccessException | HttpServerErrorException | HttpClientErrorException.TooManyRequests e) {
+			log.error("GPT 요청 실패 (재시도 후): {}", e.getMessage());
+			throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "GPT 호출에 실패했습니다. 잠시 후 다시 시도해주세요.", e);
+		} catch (Exception e) {
+			log.error("GPT 요청 중 오류 발생: ", e);
+			if (e.getCause() != null) {
+				log.error("원인 예외: {}", e.getCause().getMessage());
+			}
+			return "GPT 요청 오류";
+		}
+	}
+
+	/**
+	 * GPT를 스트리밍 모드(stream=true)로 호출하고 응답 내용 조각을 도착하는 대로 전달합니다.
+	 * 일반 호출과 같은 동시 실행 제한을 사용하여 허가를 기다린 뒤 호출하며, 대기열이 가득 차거나 제한 시간 안에
+	 * 허가를 받지 못하거나 서킷 브레이커가 열려 있으면 503으로 실패합니다. 구독을 취소하면 허가를 바로 돌려줍니다.
+	 *
+	 * @param prompt GPT에 전달할 프롬프트
+	 * @return 응답 내용 조각 스트림
+	 */
+	public Flux<String> streamText(String prompt) {
+		return Mono.defer(() -> {
+				CompletableFuture<GptConcurrencyLimiter.Permit> permit = limiter.acquire();
+				return Mono.fromFuture(permit, true)
+					.doOnCancel(() -> {
+						// 대기 중이면 대기열에서 빠지고, 취소와 동시에 허가를 받았으면 바로 반납
+						if (!permit.cancel(false)) {
+							permit.thenAccept(GptConcurrencyLimiter.Permit::release);
+						}
+					});
+			})
+			.timeout(timeout)
+			.onErrorMap(error -> error instanceof RejectedExecutionException || error instanceof TimeoutException,
+				error -> overloaded())
+			.flatMapMany(permit -> request(prompt).doFinally(signal -> permit.release()));
+	}
+
+	private Flux<String> request(String prompt) {
+		if (!gptClient.tryAcquire()) {
+			return Flux.error(
+				new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "GPT 호출이 일시적으로 차단되었습니다."));
+		}
+		GptRequestDTO request = new GptRequestDTO(gptConfig.getModel(), prompt, 250, true);
+		return gptWebClient.post()
+			.uri(gptConfig.getApiUrl())
+			.accept(MediaType.TEXT_EVENT_STREAM)
+			.bodyValue(request)
+			.retrieve()
+			.bodyToFlux(SSE_TYPE)
+			.mapNotNull(ServerSentEvent::data)
+			.takeWhile(data -> !"[DONE]".equals(data))
+			.mapNotNull(this::extractDelta)
+			.timeout(timeout)
+			.doOnComplete(() -> gptClient.recordResult(true))
+			.doOnError(error -> gptClient.recordResult(false))
+			.doFinally(signal -> {
+				// 클라이언트 연결 종료 등으로 구독이 취소되면 결과가 없으므로 시험 호출 자리만 반납
+				if (signal == SignalType.CANCEL) {
+					gptClient.releaseTrial();
+				}
+			});
+	}
+
+	private ResponseStatusException overloaded() {
+		log.warn("⚠️ GPT 호출 대기열 초과 (남은 허가: {}, 대기 중: {})", limiter.available(), limiter.waiting());
+		return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "추천 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+	}
+
+	/**
+	 * GPT 응답 본문에서 카테고리와 근거 부분을 추출합니다.
+	 *
+	 * @param content GPT가 생성한 전체 응답
+	 * @return "Categories: ...\n(근거)" 형식의 문자열, 형식이 다르면 오류 메시지
+	 */
+	public String parseContent(String content) {
+		log.debug("GPT 전체 응답: {}", content);
+
+		// 응답 포맷: "1. [카테고리1,카테고리2,카테고리3]\n2.\n(이후 Reasons 내용)"
+		if (content == null || !content.contains("1.") || !content.contains("2.")) {
+			log.warn("응답 포맷이 예상과 다릅니다: {}", content);
+			return "GPT 응답 오류 발생";
+		}
+		String[] parts = content.split("2\\.", 2);
+		String part1 = parts[0].trim();
+		String reasonsPart = parts[1].trim();
+
+		if (part1.startsWith("1.")) {
+			part1 = part1.substring(2).trim();
+		}
+		int startIdx = part1.indexOf("[");
+		int endIdx = part1.indexOf("]");
+		String categories = "";
+		if (startIdx != -1 && endIdx != -1 && endIdx > startIdx) {
+			categories = part1.substring(startIdx + 1, endIdx).trim();
+		} else {
+			log.warn("카테고리 부분 추출 실패, 전체 내용: {}", part1);
+		}
+		log.debug("추출된 카테고리: {}", categories);
+		log.debug("추출된 Reasons: {}", reasonsPart);
+
+		return "Categories: " + categories + "\n" + reasonsPart;
+	}
+
+	private String extractDelta(String data) {
+		try {
+			GptStreamChunkDTO chunk = objectMapper.readValue(data, GptStreamChunkDTO.class);
+			if (chunk.getChoices() == null || chunk.getChoices().isEmpty()
+				|| chunk.getChoices().get(0).getDelta() == null) {
+				return null;
+			}
+			return chunk.getChoices().get(0).getDelta().getContent();
+		} catch (JsonProcessingException e) {
+			log.warn("GPT 스트리밍 청크 파싱 실패: {}", data);
+			return null;
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		gptExecutor.shutdown();
+	}
+}
@@ -0,0 +1,114 @@
+package com.team4.giftidea.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * GPT 스트리밍 응답을 조각 단위로 받아 카테고리와 근거를 점진적으로 추출하는 파서
+ * "1. [카테고리1,카테고리2,카테고리3]"의 닫는 괄호가 도착하는 즉시 카테고리를 전달하고,
+ * 이후 "- 카테고리: 근거" 줄이 완성될 때마다 근거를 전달합니다. 카테고리보다 먼저 도착한 근거는 모아 두었다가
+ * 카테고리를 전달한 직후(카테고리 줄이 없으면 스트림 종료 시) 전달합니다. 스트림 하나당 인스턴스 하나를 사용합니다.
+ */
+public final class GptStreamParser {
+
+	private final Consumer<List<String>> onCategories;
+	private final BiConsumer<String, String> onReason;
+	private final StringBuilder content = new StringBuilder();
+	private final StringBuilder currentLine = new StringBuilder();
+	private final List<String[]> pendingReasons = new ArrayList<>();
+	private boolean categoriesEmitted;
+
+	/**
+	 * @param onCategories 카테고리 목록이 완성되었을 때 호출
+	 * @param onReason     근거 한 줄이 완성되었을 때 (카테고리, 근거)로 호출
+	 */
+	public GptStreamParser(Consumer<List<String>> onCategories, BiConsumer<String, String> onReason) {
+		this.onCategories = onCategories;
+		this.onReason = onReason;
+	}
+
+	/**
+	 * 스트림으로 받은 내용 조각을 처리합니다.
+	 *
+	 * @param delta 새로 도착한 응답 내용
+	 */
+	public void accept(String delta) {
+		content.append(delta);
+		for (int i = 0; i < delta.length(); i++) {
+			char c = delta.charAt(i);
+			if (c == '\n') {
+				completeLine();
+			} else {
+				currentLine.append(c);
+				if (c == ']' && !categoriesEmitted) {
+					tryEmitCategories(currentLine.toString());
+				}
+			}
+		}
+	}
+
+	/**
+	 * 스트림 종료 시 마지막 줄을 처리합니다.
+	 *
+	 * @return 지금까지 받은 전체 응답 내용
+	 */
+	public String finish() {
+		completeLine();
+		if (!categoriesEmitted) {
+			emitCategories(List.of());
+		}
+		return content.toString();
+	}
+
+	private void completeLine() {
+		String line = currentLine.toString().trim();
+		currentLine.setLength(0);
+		if (!categoriesEmitted) {
+			tryEmitCategories(line);
+			if (categoriesEmitted) {
+				return;
+			}
+		}
+		if (line.startsWith("- ")) {
+			int colonIdx = line.indexOf(":");
+			if (colonIdx != -1) {
+				String category = line.substring(2, colonIdx).trim();
+				String reason = line.substring(colonIdx + 1).trim();
+				if (categoriesEmitted) {
+					onReason.accept(category, reason);
+				} else {
+					pendingReasons.add(new String[] {category, reason});
+				}
+			}
+		}
+	}
+
+	private void tryEmitCategories(String line) {
+		String trimmed = line.trim();
+		if (!trimmed.startsWith("1.")) {
+			return;
+		}
+		int startIdx = trimmed.indexOf("[");
+		int endIdx = trimmed.indexOf("]");
+		if (startIdx == -1 || endIdx == -1 || endIdx < startIdx) {
+			return;
+		}
+		List<String> categories = Arrays.stream(trimmed.substring(startIdx + 1, endIdx).split(","))
+			.map(String::trim)
+			.filter(s -> !s.isEmpty())
+			.toList();
+		emitCategories(categories);
+	}
+
+	private void emitCategories(List<String> categories) {
+		categoriesEmitted = true;
+		onCategories.accept(categories);
+		for (String[] reason : pendingReasons) {
+			onReason.accept(reason[0], reason[1]);
+		}
+		pendingReasons.clear();
+	}
+}
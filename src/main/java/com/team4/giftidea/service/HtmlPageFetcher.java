@@ -0,0 +1,121 @@
+package com.team4.giftidea.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 브라우저 없이 검색 결과 페이지를 가져와 파싱하는 HTTP 클라이언트
+ * 서버에서 렌더링된 HTML에 상품 목록이 들어 있으면 Chrome을 띄우지 않고 keep-alive 커넥션 풀로 요청하여
+ * 응답 스트림을 바로 jsoup으로 파싱합니다. 차단되었거나 JavaScript로 목록을 그리는 페이지는 빈 값을 반환하므로,
+ * 호출하는 크롤러가 브라우저({@link WebDriverPool})로 다시 시도합니다.
+ */
+@Service
+@Slf4j
+public class HtmlPageFetcher {
+
+	private final CloseableHttpClient httpClient;
+	private final String userAgent;
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * @param maxConnections 동시에 유지할 최대 커넥션 수
+	 * @param connectTimeout 연결 제한 시간
+	 * @param readTimeout    응답 제한 시간
+	 * @param userAgent      요청에 사용할 User-Agent (브라우저 크롤링과 같은 값)
+	 */
+	public HtmlPageFetcher(
+		MeterRegistry meterRegistry,
+		@Value("${crawl.http.max-connections:4}") int maxConnections,
+		@Value("${crawl.http.connect-timeout:5s}") Duration connectTimeout,
+		@Value("${crawl.http.read-timeout:20s}") Duration readTimeout,
+		@Value("${crawl.http.user-agent:Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+			+ "(KHTML, like Gecko) Chrome/91.0.4472.124 Safari/537.36}") String userAgent) {
+		this.meterRegistry = meterRegistry;
+		this.userAgent = userAgent;
+		this.httpClient = HttpClients.custom()
+			.setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(maxConnections)
+				.setMaxConnPerRoute(maxConnections)
+				.setDefaultConnectionConfig(ConnectionConfig.custom()
+					.setConnectTimeout(Timeout.of(connectTimeout))
+					.setSocketTimeout(Timeout.of(readTimeout))
+					.setTimeToLive(TimeValue.ofMinutes(5))
+					.build())
+				.build())
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setResponseTimeout(Timeout.of(readTimeout))
+				.build())
+			.evictIdleConnections(TimeValue.ofSeconds(30))
+			.disableAutomaticRetries() // 실패하면 브라우저로 다시 시도
+			.build();
+	}
+
+	/**
+	 * 페이지를 가져와 파싱합니다.
+	 *
+	 * @param url              페이지 주소
+	 * @param requiredSelector 상품 목록이 렌더링되어 있는지 확인할 CSS 선택자
+	 * @return 파싱된 문서 (차단, 오류, 또는 선택자에 맞는 요소가 없으면 비어 있음)
+	 */
+	public Optional<Document> fetch(String url, String requiredSelector) {
+		HttpGet request = new HttpGet(url);
+		request.setHeader(HttpHeaders.USER_AGENT, userAgent);
+		request.setHeader(HttpHeaders.ACCEPT, "text/html,application/xhtml+xml");
+		request.setHeader(HttpHeaders.ACCEPT_LANGUAGE, "ko-KR,ko;q=0.9");
+		try {
+			return httpClient.execute(request, response -> {
+				HttpEntity entity = response.getEntity();
+				if (response.getCode() != 200 || entity == null) {
+					log.warn("⚠️ 페이지 요청 거부 (HTTP {}): {}", response.getCode(), url);
+					return record("blocked", Optional.empty());
+				}
+				ContentType contentType = ContentType.parseLenient(entity.getContentType());
+				String charset = contentType == null || contentType.getCharset() == null
+					? null : contentType.getCharset().name();
+				Document document;
+				try (InputStream body = entity.getContent()) {
+					document = Jsoup.parse(body, charset, url);
+				}
+				if (document.selectFirst(requiredSelector) == null) {
+					log.info("HTML에 상품 목록이 없음 (JavaScript 렌더링 필요): {}", url);
+					return record("needs-js", Optional.empty());
+				}
+				return record("ok", Optional.of(document));
+			});
+		} catch (IOException e) {
+			log.warn("⚠️ 페이지 요청 실패: {} ({})", url, e.getMessage());
+			return record("error", Optional.empty());
+		}
+	}
+
+	@PreDestroy
+	public void close() throws IOException {
+		httpClient.close();
+	}
+
+	private Optional<Document> record(String outcome, Optional<Document> result) {
+		meterRegistry.counter("crawl.http.fetch", "outcome", outcome).increment();
+		return result;
+	}
+}
@@ -0,0 +1,203 @@
+package com.team4.giftidea.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * GPT가 생성한 카테고리를 저장된 검색 키워드로 연결하는 한국어 유사 키워드 매처
+ * 띄어쓰기 차이("무선 이어폰" ↔ "무선이어폰")와 동의어("남자 지갑" ↔ "남성 지갑")는 정규화로 맞추고,
+ * 나머지는 자모 단위 bigram 역색인으로 후보를 찾아 Dice 계수와 포함 관계로 점수를 매깁니다.
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 사용할 수 있습니다.
+ */
+public final class KeywordMatcher {
+
+	/** 이 점수 미만의 후보는 버림 */
+	static final double MIN_SCORE = 0.6;
+
+	/**
+	 * 동의어 표 (표현 → 대표 표현), 정규화된(공백 제거, 소문자) 형태로 적습니다.
+	 * 같은 위치에서는 가장 긴 표현이 먼저 적용됩니다.
+	 */
+	private static final Map<String, String> SYNONYMS = Map.ofEntries(
+		Map.entry("남자", "남성"),
+		Map.entry("남성용", "남성"),
+		Map.entry("맨즈", "남성"),
+		Map.entry("여자", "여성"),
+		Map.entry("여성용", "여성"),
+		Map.entry("우먼", "여성"),
+		Map.entry("마사지기", "안마기기"),
+		Map.entry("마사지", "안마"),
+		Map.entry("프라이어", "프라이기"),
+		Map.entry("주전자", "포트"),
+		Map.entry("잠옷", "파자마"),
+		Map.entry("운동화", "스니커즈"),
+		Map.entry("콘솔", "게임기"),
+		Map.entry("배스밤", "입욕제"),
+		Map.entry("손목시계", "시계"),
+		Map.entry("이어버드", "이어폰"),
+		Map.entry("블루투스이어폰", "무선이어폰"),
+		Map.entry("차세트", "티세트"),
+		Map.entry("스웨트셔츠", "맨투맨"));
+
+	private static final int MAX_SYNONYM_LENGTH =
+		SYNONYMS.keySet().stream().mapToInt(String::length).max().orElse(0);
+
+	private static final int HANGUL_BASE = 0xAC00;
+	private static final int HANGUL_END = 0xD7A3;
+
+	private final String[] keywords;
+	private final String[] normalized;
+	private final int[] gramCounts;
+	private final Map<String, Integer> exact = new HashMap<>();
+	private final Map<Integer, int[]> postings;
+
+	/**
+	 * @param keywords 저장된 검색 키워드
+	 */
+	public KeywordMatcher(Collection<String> keywords) {
+		this.keywords = new LinkedHashSet<>(keywords).toArray(String[]::new);
+		this.normalized = new String[this.keywords.length];
+		this.gramCounts = new int[this.keywords.length];
+
+		Map<Integer, List<Integer>> index = new HashMap<>();
+		for (int id = 0; id < this.keywords.length; id++) {
+			normalized[id] = normalize(this.keywords[id]);
+			exact.putIfAbsent(normalized[id], id);
+			int[] grams = grams(normalized[id]);
+			gramCounts[id] = grams.length;
+			for (int gram : grams) {
+				index.computeIfAbsent(gram, key -> new ArrayList<>()).add(id);
+			}
+		}
+
+		this.postings = new HashMap<>(index.size() * 2);
+		index.forEach((gram, ids) -> postings.put(gram, ids.stream().mapToInt(Integer::intValue).toArray()));
+	}
+
+	/**
+	 * 카테고리와 가장 가까운 저장 키워드를 찾습니다.
+	 *
+	 * @param category   GPT가 생성한 카테고리
+	 * @param maxResults 반환할 최대 키워드 수
+	 * @return 점수가 높은 순서의 저장 키워드 (가까운 키워드가 없으면 빈 리스트)
+	 */
+	public List<String> match(String category, int maxResults) {
+		String query = normalize(category);
+		if (query.isEmpty()) {
+			return List.of();
+		}
+		Integer exactId = exact.get(query);
+		if (exactId != null) {
+			return List.of(keywords[exactId]);
+		}
+
+		int[] queryGrams = grams(query);
+		int[] shared = new int[keywords.length];
+		for (int gram : queryGrams) {
+			int[] ids = postings.get(gram);
+			if (ids != null) {
+				for (int id : ids) {
+					shared[id]++;
+				}
+			}
+		}
+
+		List<Candidate> candidates = new ArrayList<>();
+		for (int id = 0; id < keywords.length; id++) {
+			if (shared[id] == 0) {
+				continue;
+			}
+			double score = 2.0 * shared[id] / (queryGrams.length + gramCounts[id]);
+			String stored = normalized[id];
+			if (query.contains(stored) || stored.contains(query)) {
+				double ratio = (double) Math.min(query.length(), stored.length()) / Math.max(query.length(), stored.length());
+				score = Math.max(score, 0.5 + 0.5 * ratio);
+			}
+			if (score >= MIN_SCORE) {
+				candidates.add(new Candidate(id, score));
+			}
+		}
+
+		return candidates.stream()
+			.sorted(Comparator.comparingDouble(Candidate::score).reversed().thenComparingInt(Candidate::id))
+			.limit(maxResults)
+			.map(candidate -> keywords[candidate.id()])
+			.toList();
+	}
+
+	/**
+	 * @return 매처가 알고 있는 키워드 수
+	 */
+	public int size() {
+		return keywords.length;
+	}
+
+	/**
+	 * 공백과 기호를 제거하고 소문자로 바꾼 뒤 동의어를 대표 표현으로 바꿉니다.
+	 */
+	static String normalize(String value) {
+		if (value == null) {
+			return "";
+		}
+		StringBuilder compact = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				compact.append(Character.toLowerCase(c));
+			}
+		}
+
+		StringBuilder result = new StringBuilder(compact.length());
+		int i = 0;
+		outer:
+		while (i < compact.length()) {
+			for (int length = Math.min(MAX_SYNONYM_LENGTH, compact.length() - i); length >= 2; length--) {
+				String canonical = SYNONYMS.get(compact.substring(i, i + length));
+				if (canonical != null) {
+					result.append(canonical);
+					i += length;
+					continue outer;
+				}
+			}
+			result.append(compact.charAt(i++));
+		}
+		return result.toString();
+	}
+
+	/**
+	 * 한글 음절을 초성/중성/종성으로 분해한 문자열의 bigram 집합을 만듭니다.
+	 * 두 문자를 하나의 int로 묶어 저장합니다.
+	 */
+	static int[] grams(String normalized) {
+		StringBuilder jamo = new StringBuilder(normalized.length() * 3);
+		for (int i = 0; i < normalized.length(); i++) {
+			char c = normalized.charAt(i);
+			if (c >= HANGUL_BASE && c <= HANGUL_END) {
+				int offset = c - HANGUL_BASE;
+				jamo.append((char) (0x1100 + offset / 588));
+				jamo.append((char) (0x1161 + (offset % 588) / 28));
+				if (offset % 28 != 0) {
+					jamo.append((char) (0x11A7 + offset % 28));
+				}
+			} else {
+				jamo.append(c);
+			}
+		}
+		if (jamo.length() < 2) {
+			return jamo.isEmpty() ? new int[0] : new int[] {jamo.charAt(0)};
+		}
+		return IntStream.range(0, jamo.length() - 1)
+			.map(i -> (jamo.charAt(i) << 16) | jamo.charAt(i + 1))
+			.distinct()
+			.toArray();
+	}
+
+	private record Candidate(int id, double score) {
+	}
+}
@@ -2,9 +2,13 @@ package com.team4.giftidea.service;
 
 import com.team4.giftidea.entity.Product;
 import lombok.extern.slf4j.Slf4j;
-import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,27 +20,36 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Kream 웹사이트에서 상품 정보를 크롤링하는 서비스 클래스
+ * 검색 결과 HTML을 먼저 브라우저 없이 가져와 파싱하고, 차단되었거나 상품 목록이 없으면 Chrome으로 다시 시도합니다.
+ * 두 경로 모두 같은 선택자로 상품 정보를 추출합니다.
  */
 @Service
 @Slf4j
 public class KreamApiService {
 
 	private static final String KREAM_SEARCH_URL = "https://kream.co.kr/search?keyword=%s&tab=products";
-	private static final String USER_AGENT = "user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) " +
-		"AppleWebKit/537.36 (KHTML, like Gecko) Chrome/91.0.4472.124 Safari/537.36";
+	private static final String PRODUCT_SELECTOR = ".product_card";
 
-	@Value("${selenium.chromedriver-path}")
-	private String chromeDriverPath;
-
-	private final ProductService productService;
+	private final WebDriverPool webDriverPool;
+	private final HtmlPageFetcher htmlPageFetcher;
+	private final boolean browserless;
+	private final String searchUrl;
 
 	@Autowired
-	public KreamApiService(ProductService productService) {
-		this.productService = productService;
+	public KreamApiService(
+		WebDriverPool webDriverPool,
+		HtmlPageFetcher htmlPageFetcher,
+		@Value("${crawl.kream.browserless:true}") boolean browserless,
+		@Value("${crawl.kream.search-url:" + KREAM_SEARCH_URL + "}") String searchUrl) {
+		this.webDriverPool = webDriverPool;
+		this.htmlPageFetcher = htmlPageFetcher;
+		this.browserless = browserless;
+		this.searchUrl = searchUrl;
 	}
 
 	/**
@@ -46,46 +59,62 @@ public class KreamApiService {
 	 * @return 크롤링된 상품 리스트
 	 */
 	public List<Product> searchItems(String query) {
-		List<Product> productList = new ArrayList<>();
-		System.setProperty("webdriver.chrome.driver", chromeDriverPath);
-
-		ChromeOptions options = new ChromeOptions();
-		options.addArguments(USER_AGENT);
-
-		WebDriver driver = new ChromeDriver(options);
+		String url = String.format(searchUrl, URLEncoder.encode(query, StandardCharsets.UTF_8));
+		if (browserless) {
+			Optional<Document> page = htmlPageFetcher.fetch(url, PRODUCT_SELECTOR);
+			List<Product> productList = page.map(document -> parse(document, query)).orElse(List.of());
+			if (!productList.isEmpty()) {
+				return productList;
+			}
+			log.info("🌐 [Kream] 브라우저로 다시 시도 (키워드: {})", query);
+		}
 
-		try {
-			String encodedQuery = URLEncoder.encode(query, StandardCharsets.UTF_8);
-			String searchUrl = String.format(KREAM_SEARCH_URL, encodedQuery);
-
-			driver.get(searchUrl);
-			WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(60));
-			wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector(".product_card")));
-
-			List<WebElement> products = driver.findElements(By.cssSelector(".product_card"));
-
-			for (WebElement product : products) {
-				try {
-					Product productEntity = extractProductInfo(product, query);
-					if (productEntity != null) {
-						productList.add(productEntity);
-						productService.saveItems(List.of(productEntity), query);
-					}
-				} catch (NoSuchElementException e) {
-					log.warn("요소를 찾을 수 없음: {}", e.getMessage());
-				}
+		List<Product> productList = new ArrayList<>();
+		try (WebDriverPool.Lease lease = webDriverPool.lease()) {
+			try {
+				crawl(lease.driver(), url, query, productList);
+			} catch (TimeoutException e) {
+				log.error("페이지 로딩 시간 초과: {}", e.getMessage());
+			} catch (WebDriverException e) {
+				lease.invalidate(); // 브라우저 오류가 난 드라이버는 재사용하지 않음
+				log.error("크롤링 중 브라우저 오류 발생: {}", e.getMessage());
 			}
-		} catch (TimeoutException e) {
-			log.error("페이지 로딩 시간 초과: {}", e.getMessage());
 		} catch (Exception e) {
 			log.error("크롤링 중 오류 발생: {}", e.getMessage());
-		} finally {
-			driver.quit();  // 크롤링 후 브라우저 종료
 		}
 
 		return productList;
 	}
 
+	/**
+	 * 빌린 드라이버로 검색 결과 페이지를 열고, 상품 목록이 렌더링되면 페이지 HTML에서 상품을 추출합니다.
+	 */
+	private void crawl(WebDriver driver, String url, String query, List<Product> productList) {
+		driver.get(url);
+		WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(60));
+		wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector(PRODUCT_SELECTOR)));
+
+		productList.addAll(parse(Jsoup.parse(driver.getPageSource(), url), query));
+	}
+
+	/**
+	 * 검색 결과 페이지에서 상품을 추출합니다.
+	 *
+	 * @param document 검색 결과 페이지
+	 * @param query    검색 키워드
+	 * @return 추출된 상품 리스트
+	 */
+	static List<Product> parse(Document document, String query) {
+		List<Product> productList = new ArrayList<>();
+		for (Element product : document.select(PRODUCT_SELECTOR)) {
+			Product productEntity = extractProductInfo(product, query);
+			if (productEntity != null) {
+				productList.add(productEntity);
+			}
+		}
+		return productList;
+	}
+
 	/**
 	 * 개별 상품 정보를 추출하여 Product 객체를 생성합니다.
 	 *
@@ -93,31 +122,43 @@ public class KreamApiService {
 	 * @param query          검색 키워드
 	 * @return Product 객체 (추출 실패 시 null 반환)
 	 */
-	private Product extractProductInfo(WebElement productElement, String query) {
-		try {
-			String title = productElement.findElement(By.className("name")).getText();
-			String priceText = productElement.findElement(By.className("amount")).getText().replaceAll("[^0-9]", "");
-			Integer price = priceText.isEmpty() ? 0 : Integer.parseInt(priceText);
-			String imageUrl = productElement.findElement(By.tagName("img")).getAttribute("src");
-			String link = productElement.findElement(By.tagName("a")).getAttribute("href");
-
-			// ✅ 상품 코드 (product_id) 추출
-			String productId = extractProductIdFromLink(link);
-
-			Product product = new Product();
-			product.setProductId(productId);
-			product.setTitle(title);
-			product.setPrice(price);
-			product.setImage(imageUrl);
-			product.setMallName("Kream");
-			product.setLink(link);
-			product.setKeyword(query);
-
-			return product;
-		} catch (NoSuchElementException e) {
-			log.warn("상품 정보 추출 실패: {}", e.getMessage());
+	private static Product extractProductInfo(Element productElement, String query) {
+		Element name = productElement.selectFirst(".name");
+		Element amount = productElement.selectFirst(".amount");
+		Element image = productElement.selectFirst("img");
+		Element anchor = productElement.selectFirst("a");
+		if (name == null || amount == null || image == null || anchor == null) {
+			log.warn("상품 정보 추출 실패: 필수 요소 없음");
 			return null;
 		}
+
+		String title = name.text();
+		String priceText = amount.text().replaceAll("[^0-9]", "");
+		Integer price = priceText.isEmpty() ? 0 : Integer.parseInt(priceText);
+		String imageUrl = absoluteUrl(image, "src");
+		String link = absoluteUrl(anchor, "href");
+
+		// ✅ 상품 코드 (product_id) 추출
+		String productId = extractProductIdFromLink(link);
+
+		Product product = new Product();
+		product.setProductId(productId);
+		product.setTitle(title);
+		product.setPrice(price);
+		product.setImage(imageUrl);
+		product.setMallName("Kream");
+		product.setLink(link);
+		product.setKeyword(query);
+
+		return product;
+	}
+
+	/**
+	 * 속성 값을 페이지 주소 기준의 절대 주소로 반환합니다. (브라우저의 src, href 속성 값과 같음)
+	 */
+	private static String absoluteUrl(Element element, String attribute) {
+		String url = element.absUrl(attribute);
+		return url.isEmpty() ? element.attr(attribute) : url;
 	}
 
 	/**
@@ -125,7 +166,7 @@ public class KreamApiService {
 	 * @param link 상품 페이지 URL
 	 * @return 상품 코드 (숫자)
 	 */
-	private String extractProductIdFromLink(String link) {
+	private static String extractProductIdFromLink(String link) {
 		try {
 			String[] parts = link.split("/products/");
 			if (parts.length > 1) {
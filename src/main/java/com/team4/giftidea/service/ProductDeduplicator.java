@@ -0,0 +1,247 @@
+package com.team4.giftidea.service;
+
+import com.team4.giftidea.entity.Product;
+import com.team4.giftidea.repository.ProductRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 판매처/키워드가 달라도 같은 상품을 하나로 묶는 중복 판별 서비스 클래스
+ * 정규화된 상품명의 64비트 SimHash가 MAX_DISTANCE 비트 이하로 다르고 가격 차이가 허용 범위 안이면 같은 상품으로 봅니다.
+ * SimHash를 8비트씩 8개 구간으로 나눈 LSH 색인으로 한 구간 이상 일치하는 후보만 비교하므로, 상품 수가 늘어도 저장 시 비교 비용이 작게 유지됩니다.
+ * (거리 7 이하는 항상 후보가 되고, 그보다 먼 중복은 확률적으로 찾습니다.)
+ */
+@Service
+@Slf4j
+public class ProductDeduplicator {
+
+	/**
+	 * 같은 상품으로 볼 최대 해밍 거리
+	 * 판매처별 표기 차이는 대략 0~9비트, 색상/모델만 다른 상품은 15비트 이상 차이가 납니다.
+	 */
+	static final int MAX_DISTANCE = 10;
+	private static final int BANDS = 8;
+	private static final int BAND_BITS = 64 / BANDS;
+
+	/** [무료배송], (정품) 같은 괄호 안 광고 문구 */
+	private static final Pattern BRACKETED = Pattern.compile("\\[[^\\]]*]|\\([^)]*\\)|【[^】]*】");
+
+	private final ProductRepository productRepository;
+	private final boolean enabled;
+	private final double priceTolerance;
+
+	/** 구간 값 → 대표 상품 서명, 처음 사용할 때 DB에서 읽어 옴 */
+	private List<Map<Integer, List<Signature>>> bands;
+
+	/**
+	 * @param productRepository 상품 Repository
+	 * @param enabled           중복 묶기 사용 여부
+	 * @param priceTolerance    같은 상품으로 볼 최대 가격 차이 비율 (높은 가격 기준, 예: 0.15 = 15%)
+	 */
+	public ProductDeduplicator(
+		ProductRepository productRepository,
+		@Value("${product.dedup.enabled:true}") boolean enabled,
+		@Value("${product.dedup.price-tolerance:0.15}") double priceTolerance) {
+		this.productRepository = productRepository;
+		this.enabled = enabled;
+		this.priceTolerance = priceTolerance;
+	}
+
+	/**
+	 * 새 상품과 같은 대표 상품을 찾습니다.
+	 *
+	 * @param simhash 새 상품의 SimHash
+	 * @param price   새 상품의 가격
+	 * @return 같은 상품으로 판단된 대표 상품의 id
+	 */
+	public synchronized Optional<Long> findCanonical(long simhash, int price) {
+		if (!enabled) {
+			return Optional.empty();
+		}
+		Signature best = null;
+		int bestDistance = MAX_DISTANCE + 1;
+		for (int band = 0; band < BANDS; band++) {
+			List<Signature> bucket = bands().get(band).get(bandKey(simhash, band));
+			if (bucket == null) {
+				continue;
+			}
+			for (Signature candidate : bucket) {
+				int distance = Long.bitCount(candidate.simhash() ^ simhash);
+				if (distance < bestDistance && priceClose(candidate.price(), price)) {
+					best = candidate;
+					bestDistance = distance;
+				}
+			}
+		}
+		return best == null ? Optional.empty() : Optional.of(best.id());
+	}
+
+	/**
+	 * 두 상품이 같은 상품인지 판단합니다. (아직 저장되지 않아 색인에 없는 상품끼리 비교할 때 사용)
+	 */
+	public boolean isDuplicate(long simhash, int price, long otherSimhash, int otherPrice) {
+		return enabled && Long.bitCount(simhash ^ otherSimhash) <= MAX_DISTANCE && priceClose(price, otherPrice);
+	}
+
+	/**
+	 * 새로 저장된 대표 상품을 색인에 추가합니다.
+	 */
+	public synchronized void register(long id, long simhash, int price) {
+		if (enabled) {
+			add(bands(), new Signature(id, simhash, price));
+		}
+	}
+
+	/**
+	 * DB에 대표 상품이 한꺼번에 추가되었을 때(카탈로그 스냅샷 반영 등) 색인을 비워 다음 사용 시 다시 읽게 합니다.
+	 */
+	public synchronized void invalidate() {
+		bands = null;
+	}
+
+	/**
+	 * SimHash가 없는 기존 상품에 SimHash를 계산하고, 같은 상품끼리 묶습니다. 먼저 저장된 상품이 대표 상품이 됩니다.
+	 * 메모리 인덱스 생성보다 먼저 실행됩니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(0)
+	@Transactional
+	public void backfill() {
+		List<Product> unsigned = productRepository.findBySimhashIsNullOrderByIdAsc();
+		if (unsigned.isEmpty()) {
+			return;
+		}
+		int merged = 0;
+		for (Product product : unsigned) {
+			if (assignCanonical(product)) {
+				merged++;
+			}
+		}
+		productRepository.saveAll(unsigned);
+		log.info("🧬 상품 중복 묶기 이관 완료 - {}개 서명 계산, {}개를 대표 상품에 연결", unsigned.size(), merged);
+	}
+
+	/**
+	 * 상품의 SimHash를 계산하고, 같은 대표 상품이 있으면 canonicalId를 설정합니다.
+	 * 대표 상품이 된 상품은 id가 있어야 색인에 추가되므로, 새 상품은 저장 후 {@link #register}를 호출해야 합니다.
+	 *
+	 * @return 다른 대표 상품에 연결되었으면 true
+	 */
+	public boolean assignCanonical(Product product) {
+		long simhash = simhash(product.getTitle());
+		product.setSimhash(simhash);
+		int price = product.getPrice() == null ? 0 : product.getPrice();
+		Optional<Long> canonical = findCanonical(simhash, price)
+			.filter(id -> !id.equals(product.getId()));
+		product.setCanonicalId(canonical.orElse(null));
+		if (canonical.isEmpty() && product.getId() != null) {
+			register(product.getId(), simhash, price);
+		}
+		return canonical.isPresent();
+	}
+
+	/**
+	 * 상품명을 정규화하여 64비트 SimHash를 계산합니다.
+	 * 괄호 안 광고 문구와 기호를 제거하고, 띄어쓰기 차이에 영향받지 않도록 공백을 제거한 글자 trigram을 특징으로 사용합니다.
+	 */
+	static long simhash(String title) {
+		String normalized = normalize(title);
+		int[] weights = new int[64];
+		String compact = normalized.replace(" ", "");
+		for (int i = 0; i + 3 <= compact.length(); i++) {
+			accumulate(weights, hash64(compact, i, i + 3), 1);
+		}
+
+		long simhash = 0;
+		for (int bit = 0; bit < 64; bit++) {
+			if (weights[bit] > 0) {
+				simhash |= 1L << bit;
+			}
+		}
+		return simhash;
+	}
+
+	static String normalize(String title) {
+		if (title == null) {
+			return "";
+		}
+		String stripped = BRACKETED.matcher(title.toLowerCase()).replaceAll(" ");
+		StringBuilder normalized = new StringBuilder(stripped.length());
+		boolean space = true;
+		for (int i = 0; i < stripped.length(); i++) {
+			char c = stripped.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				normalized.append(c);
+				space = false;
+			} else if (!space) {
+				normalized.append(' ');
+				space = true;
+			}
+		}
+		return normalized.toString().trim();
+	}
+
+	private boolean priceClose(int a, int b) {
+		int high = Math.max(a, b);
+		return high == 0 || Math.abs(a - b) <= high * priceTolerance;
+	}
+
+	private List<Map<Integer, List<Signature>>> bands() {
+		if (bands == null) {
+			List<Map<Integer, List<Signature>>> loaded = new ArrayList<>(BANDS);
+			for (int band = 0; band < BANDS; band++) {
+				loaded.add(new HashMap<>());
+			}
+			productRepository.findCanonicalSignatures().forEach(signature -> add(loaded,
+				new Signature(signature.getId(), signature.getSimhash(), signature.getPrice())));
+			bands = loaded;
+		}
+		return bands;
+	}
+
+	private static void add(List<Map<Integer, List<Signature>>> bands, Signature signature) {
+		for (int band = 0; band < BANDS; band++) {
+			bands.get(band).computeIfAbsent(bandKey(signature.simhash(), band), key -> new ArrayList<>()).add(signature);
+		}
+	}
+
+	private static int bandKey(long simhash, int band) {
+		return (int) ((simhash >>> (band * BAND_BITS)) & 0xFF);
+	}
+
+	private static void accumulate(int[] weights, long hash, int weight) {
+		for (int bit = 0; bit < 64; bit++) {
+			weights[bit] += ((hash >>> bit) & 1) == 1 ? weight : -weight;
+		}
+	}
+
+	/**
+	 * FNV-1a 64비트 해시에 비트 확산을 더한 값
+	 */
+	private static long hash64(String value, int from, int to) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = from; i < to; i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	private record Signature(long id, long simhash, int price) {
+	}
+}
@@ -0,0 +1,415 @@
+package com.team4.giftidea.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.giftidea.dto.ProductCardDTO;
+import com.team4.giftidea.dto.ProductCardJson;
+import com.team4.giftidea.dto.ProductSearchCondition;
+import com.team4.giftidea.dto.ProductSort;
+import com.team4.giftidea.entity.Product;
+import com.team4.giftidea.repository.ProductKeywordRepository;
+import com.team4.giftidea.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 키워드별 상품 목록을 메모리에 보관하는 읽기 전용 인덱스
+ * 상품 데이터는 새벽 크롤링과 파트너스 링크 갱신 때만 바뀌므로, 그때마다 새 스냅샷을 만들어 통째로 교체합니다.
+ * 조회는 현재 스냅샷을 읽기만 하므로 잠금과 DB 조회가 없습니다.
+ * 스냅샷에 담긴 상품 엔티티는 여러 요청이 공유하므로 수정하면 안 됩니다.
+ *
+ * <p>키워드마다 가격 오름차순 int[]와 같은 순서의 상품 번호 배열, 정렬 기준별 상품 번호 배열을 미리 만들어 두어,
+ * 가격 범위 조회는 이진 탐색으로, 정렬은 미리 정렬된 배열을 앞에서부터 읽는 것으로 끝납니다.
+ * 응답에 쓰일 상품 카드 JSON도 스냅샷을 만들 때 UTF-8 바이트로 미리 인코딩해 둡니다.
+ * 같은 상품으로 묶인 상품({@link Product#getCanonicalId()}가 있는 상품)은 대표 상품 하나로만 담기고,
+ * 대표 상품 카드에 판매처 중 최저가와 판매처 수가 표시됩니다.
+ */
+@Service
+@Slf4j
+public class ProductIndex {
+
+	/** 객체 헤더와 필드 참조를 포함한 상품 엔티티 한 개의 대략적인 크기 */
+	private static final long PRODUCT_OVERHEAD_BYTES = 80;
+	/** String 객체와 내부 배열 헤더의 대략적인 크기 */
+	private static final long STRING_OVERHEAD_BYTES = 40;
+	/** HashMap 엔트리와 키워드별 배열 헤더의 대략적인 크기 */
+	private static final long KEYWORD_OVERHEAD_BYTES = 160;
+
+	private final ProductRepository productRepository;
+	private final ProductKeywordRepository productKeywordRepository;
+	private final ObjectMapper objectMapper;
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+	public ProductIndex(ProductRepository productRepository, ProductKeywordRepository productKeywordRepository,
+		ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+		this.productRepository = productRepository;
+		this.productKeywordRepository = productKeywordRepository;
+		this.objectMapper = objectMapper;
+		meterRegistry.gauge("product.index.products", snapshot, ref -> ref.get() == null ? 0 : ref.get().products().length);
+		meterRegistry.gauge("product.index.bytes", snapshot, ref -> ref.get() == null ? 0 : ref.get().estimatedBytes());
+	}
+
+	/**
+	 * 애플리케이션 기동 직후(상품-키워드 연결 이관 이후) 인덱스를 만듭니다. 실패하면 인덱스 없이 DB 조회로 동작합니다.
+	 * 카탈로그 스냅샷 파일로 이미 인덱스가 만들어졌으면 DB를 읽지 않습니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(2)
+	public void warmUp() {
+		if (isReady()) {
+			log.info("📚 카탈로그 스냅샷으로 인덱스가 준비되어 DB 기반 초기화를 건너뜁니다.");
+			return;
+		}
+		try {
+			rebuild();
+		} catch (Exception e) {
+			log.error("❌ 상품 인덱스 초기화 실패, DB 조회로 동작합니다.", e);
+		}
+	}
+
+	/**
+	 * DB의 만료되지 않은 전체 상품으로 새 스냅샷을 만들어 교체합니다.
+	 * 동시에 여러 번 호출되면 순서대로 실행되며, 마지막 호출 결과가 남습니다.
+	 */
+	public synchronized void rebuild() {
+		load(productRepository.findByExpiredAtIsNull(), productKeywordRepository.findAllLinks());
+	}
+
+	/**
+	 * 주어진 상품과 상품-키워드 연결로 새 스냅샷을 만들어 교체합니다. (DB 또는 카탈로그 스냅샷 파일)
+	 *
+	 * @param all   전체 상품 (대표 상품이 아닌 상품 포함)
+	 * @param links 전체 (상품 id, 키워드) 쌍
+	 */
+	public synchronized void load(List<Product> all, List<? extends ProductKeywordRepository.KeywordLink> links) {
+		long start = System.currentTimeMillis();
+		// 대표 상품만 인덱스에 담고, 같은 상품으로 묶인 상품의 키워드 연결은 대표 상품으로 돌림
+		// 대체 판매처의 최저가와 수는 대표 상품 카드에 함께 담음
+		Map<Long, Long> canonicalIds = new HashMap<>();
+		Map<Long, Integer> alternateMinPrices = new HashMap<>();
+		Map<Long, Integer> alternateCounts = new HashMap<>();
+		for (Product product : all) {
+			if (product.getCanonicalId() != null) {
+				canonicalIds.put(product.getId(), product.getCanonicalId());
+				alternateCounts.merge(product.getCanonicalId(), 1, Integer::sum);
+				if (product.getPrice() != null) {
+					alternateMinPrices.merge(product.getCanonicalId(), product.getPrice(), Math::min);
+				}
+			}
+		}
+		Product[] products = all.stream().filter(product -> product.getCanonicalId() == null).toArray(Product[]::new);
+		int[] prices = new int[products.length];
+		ProductCardJson[] cards = new ProductCardJson[products.length];
+		Map<Long, Integer> positionById = new HashMap<>(products.length * 2);
+		long bytes = 0;
+		for (int i = 0; i < products.length; i++) {
+			Product product = products[i];
+			prices[i] = product.getPrice() == null ? 0 : product.getPrice();
+			positionById.put(product.getId(), i);
+			Integer alternateMin = alternateMinPrices.get(product.getId());
+			Integer minPrice = alternateMin == null || (product.getPrice() != null && product.getPrice() <= alternateMin)
+				? product.getPrice() : alternateMin;
+			cards[i] = ProductCardJson.encode(objectMapper,
+				ProductCardDTO.from(product, minPrice, 1 + alternateCounts.getOrDefault(product.getId(), 0)));
+			bytes += PRODUCT_OVERHEAD_BYTES + 4 + STRING_OVERHEAD_BYTES + 3L * cards[i].byteLength()
+				+ sizeOf(product.getProductId()) + sizeOf(product.getTitle()) + sizeOf(product.getImage())
+				+ sizeOf(product.getMallName()) + sizeOf(product.getLink()) + sizeOf(product.getBrand())
+				+ sizeOf(product.getCategory());
+		}
+
+		Map<String, List<Integer>> grouped = new HashMap<>();
+		for (ProductKeywordRepository.KeywordLink link : links) {
+			Integer position = positionById.get(canonicalIds.getOrDefault(link.getProductId(), link.getProductId()));
+			if (position != null) {
+				grouped.computeIfAbsent(link.getKeyword(), key -> new ArrayList<>()).add(position);
+			}
+		}
+
+		Map<String, KeywordPostings> byKeyword = new HashMap<>(grouped.size() * 2);
+		for (Map.Entry<String, List<Integer>> entry : grouped.entrySet()) {
+			KeywordPostings postings = KeywordPostings.build(entry.getValue(), products, prices);
+			byKeyword.put(entry.getKey(), postings);
+			bytes += KEYWORD_OVERHEAD_BYTES + sizeOf(entry.getKey())
+				+ 4L * entry.getValue().size() * (ProductSort.values().length + 1);
+		}
+
+		ProductVectorIndex vectors = new ProductVectorIndex(products);
+		Snapshot next = new Snapshot(products, prices, cards, Map.copyOf(byKeyword),
+			new KeywordMatcher(byKeyword.keySet()), vectors, bytes + vectors.offHeapBytes(),
+			version(products, cards, byKeyword));
+		snapshot.set(next);
+		log.info("📚 상품 인덱스 교체 완료 - 키워드 {}개, 상품 {}개, 약 {}KB, {}ms (버전 {})",
+			byKeyword.size(), products.length, bytes / 1024, System.currentTimeMillis() - start, next.version());
+	}
+
+	/**
+	 * GPT 카테고리를 가까운 저장 키워드로 연결하고, 키워드별로 가격 범위 안의 상품을 정렬 기준에 따라 limit개씩 찾습니다.
+	 * 유사도 정렬에서는 카테고리의 추천 근거(없으면 카테고리 이름)와 상품 텍스트 벡터의 유사도가 높은 순서로 고릅니다.
+	 * 키워드 연결과 상품 조회 모두 호출 시점의 같은 스냅샷에서 처리하므로, 도중에 인덱스가 교체되어도 결과가 섞이지 않습니다.
+	 *
+	 * @param categories     GPT가 생성한 카테고리
+	 * @param reasons        카테고리별 GPT 추천 근거
+	 * @param maxPerCategory 카테고리 하나당 연결할 최대 키워드 수
+	 * @param condition      키워드당 상품 수, 정렬 기준, 가격 범위
+	 * @return 인덱스가 준비되지 않았으면 Optional.empty(), 준비되었으면 키워드 순서대로 모은 상품과 인코딩된 JSON
+	 */
+	public Optional<List<Hit>> search(List<String> categories, Map<String, String> reasons, int maxPerCategory,
+		ProductSearchCondition condition) {
+		Snapshot current = snapshot.get();
+		if (current == null) {
+			return Optional.empty();
+		}
+
+		Set<String> visited = new HashSet<>();
+		List<Hit> result = new ArrayList<>();
+		float[] query = null;
+		for (String category : categories) {
+			List<String> matches = current.matcher().match(category, maxPerCategory);
+			if (matches.isEmpty()) {
+				log.debug("저장된 키워드와 연결되지 않은 카테고리: {}", category);
+				continue;
+			}
+			if (condition.sort() == ProductSort.RELEVANCE) {
+				query = new float[ProductVectorIndex.DIMENSIONS];
+				ProductVectorIndex.embed(reasons.getOrDefault(category, category), query);
+			}
+			for (String keyword : matches) {
+				KeywordPostings postings = current.byKeyword().get(keyword);
+				if (postings != null && visited.add(keyword)) {
+					postings.collect(current, condition, query, result);
+				}
+			}
+		}
+		return Optional.of(result);
+	}
+
+	/**
+	 * 키워드 하나의 상품을 최근 저장 순으로 커서 기반 페이지 단위로 읽습니다.
+	 * 커서는 이전 페이지 마지막 상품의 id이므로, 크롤링으로 인덱스가 교체되어도 이어 읽을 수 있습니다.
+	 *
+	 * @param keyword 키워드 (저장된 키워드와 가장 가까운 키워드로 연결)
+	 * @param cursor  이전 페이지의 nextCursor (첫 페이지는 null)
+	 * @param size    페이지 크기
+	 * @return 인덱스가 준비되지 않았으면 Optional.empty()
+	 */
+	public Optional<CatalogPage> browse(String keyword, Long cursor, int size) {
+		Snapshot current = snapshot.get();
+		if (current == null) {
+			return Optional.empty();
+		}
+		List<String> matches = current.matcher().match(keyword, 1);
+		if (matches.isEmpty()) {
+			return Optional.of(new CatalogPage(null, List.of(), null, current.version()));
+		}
+
+		int[] order = current.byKeyword().get(matches.get(0)).orders[ProductSort.RECENCY.ordinal()];
+		Product[] products = current.products();
+		// id 내림차순 배열에서 cursor보다 작은 첫 위치
+		int from = 0;
+		if (cursor != null) {
+			int high = order.length;
+			while (from < high) {
+				int mid = (from + high) >>> 1;
+				if (products[order[mid]].getId() >= cursor) {
+					from = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+		}
+		int to = Math.min(order.length, from + size);
+		List<Hit> hits = new ArrayList<>(to - from);
+		for (int i = from; i < to; i++) {
+			hits.add(current.hit(order[i]));
+		}
+		Long nextCursor = to < order.length && to > from ? products[order[to - 1]].getId() : null;
+		return Optional.of(new CatalogPage(matches.get(0), hits, nextCursor, current.version()));
+	}
+
+	/**
+	 * @return 인덱스가 준비되었으면 true
+	 */
+	public boolean isReady() {
+		return snapshot.get() != null;
+	}
+
+	/**
+	 * @return 현재 스냅샷의 대략적인 메모리 사용량 (바이트, 준비 전이면 0)
+	 */
+	public long estimatedBytes() {
+		Snapshot current = snapshot.get();
+		return current == null ? 0 : current.estimatedBytes();
+	}
+
+	/**
+	 * 상품 카드 JSON과 키워드별 상품 구성으로 카탈로그 버전을 계산합니다.
+	 * 내용이 같으면 서버와 기동 시점에 관계없이 같은 값이므로, 여러 서버 뒤의 CDN에서도 ETag로 쓸 수 있습니다.
+	 */
+	private static String version(Product[] products, ProductCardJson[] cards, Map<String, KeywordPostings> byKeyword) {
+		long hash = 0xcbf29ce484222325L;
+		for (ProductCardJson card : cards) {
+			hash = (hash ^ card.toString().hashCode()) * 0x100000001b3L;
+		}
+		List<String> keywords = new ArrayList<>(byKeyword.keySet());
+		keywords.sort(null);
+		for (String keyword : keywords) {
+			hash = (hash ^ keyword.hashCode()) * 0x100000001b3L;
+			for (int position : byKeyword.get(keyword).orders[ProductSort.RECENCY.ordinal()]) {
+				hash = (hash ^ products[position].getId()) * 0x100000001b3L;
+			}
+		}
+		return Long.toHexString(hash);
+	}
+
+	/**
+	 * 문자열 한 개의 대략적인 크기 (한글 등 Latin-1 밖의 문자가 있으면 문자당 2바이트)
+	 */
+	private static long sizeOf(String value) {
+		if (value == null) {
+			return 0;
+		}
+		boolean latin1 = value.chars().allMatch(c -> c < 0x100);
+		return STRING_OVERHEAD_BYTES + (latin1 ? value.length() : 2L * value.length());
+	}
+
+	/**
+	 * 인덱스 검색 결과 한 건
+	 *
+	 * @param product 상품 (읽기 전용)
+	 * @param card    미리 인코딩된 상품 카드 JSON
+	 */
+	public record Hit(Product product, ProductCardJson card) {
+	}
+
+	/**
+	 * 카탈로그 조회 결과 한 페이지
+	 *
+	 * @param keyword    연결된 저장 키워드 (연결되지 않았으면 null)
+	 * @param hits       최근 저장 순 상품
+	 * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+	 * @param version    조회한 카탈로그 버전
+	 */
+	public record CatalogPage(String keyword, List<Hit> hits, Long nextCursor, String version) {
+	}
+
+	/**
+	 * @param products       전체 상품 (상품 번호 = 배열 위치)
+	 * @param prices         상품 번호별 가격
+	 * @param cards          상품 번호별 인코딩된 상품 카드 JSON
+	 * @param byKeyword      키워드별 정렬 배열
+	 * @param matcher        카테고리 → 저장 키워드 매처
+	 * @param vectors        상품 텍스트 벡터 (오프힙)
+	 * @param estimatedBytes 대략적인 메모리 사용량
+	 * @param version        상품 구성과 카드 내용으로 계산한 카탈로그 버전
+	 */
+	private record Snapshot(Product[] products, int[] prices, ProductCardJson[] cards,
+		Map<String, KeywordPostings> byKeyword,
+		KeywordMatcher matcher, ProductVectorIndex vectors, long estimatedBytes, String version) {
+
+		Hit hit(int position) {
+			return new Hit(products[position], cards[position]);
+		}
+	}
+
+	/**
+	 * 키워드 하나의 상품 번호 배열
+	 * sortedPrices와 orders[PRICE]는 같은 순서(가격 오름차순)의 병렬 배열이며,
+	 * orders의 나머지 배열은 각 정렬 기준 순서로 미리 정렬되어 있습니다.
+	 */
+	private static final class KeywordPostings {
+
+		private final int[] sortedPrices;
+		private final int[][] orders;
+
+		private KeywordPostings(int[] sortedPrices, int[][] orders) {
+			this.sortedPrices = sortedPrices;
+			this.orders = orders;
+		}
+
+		static KeywordPostings build(List<Integer> positions, Product[] products, int[] prices) {
+			int[][] orders = new int[ProductSort.values().length][];
+			for (ProductSort sort : ProductSort.values()) {
+				orders[sort.ordinal()] = positions.stream()
+					.distinct()
+					.sorted((a, b) -> sort.comparator().compare(products[a], products[b]))
+					.mapToInt(Integer::intValue)
+					.toArray();
+			}
+			int[] byPrice = orders[ProductSort.PRICE.ordinal()];
+			int[] sortedPrices = new int[byPrice.length];
+			for (int i = 0; i < byPrice.length; i++) {
+				sortedPrices[i] = prices[byPrice[i]];
+			}
+			return new KeywordPostings(sortedPrices, orders);
+		}
+
+		void collect(Snapshot snapshot, ProductSearchCondition condition, float[] query, List<Hit> out) {
+			int limit = condition.limit();
+			int minPrice = condition.minPrice();
+			int maxPrice = condition.maxPrice();
+			// 가격 범위의 시작/끝 위치를 이진 탐색으로 찾음
+			int[] byPrice = orders[ProductSort.PRICE.ordinal()];
+			int from = lowerBound(sortedPrices, minPrice);
+			int to = lowerBound(sortedPrices, (long) maxPrice + 1);
+			boolean unbounded = from == 0 && to == sortedPrices.length;
+
+			if (condition.sort() == ProductSort.RELEVANCE && query != null) {
+				// 가격 범위 안의 상품만 유사도 계산, 범위 제한이 없으면 최근 저장 순 배열로 계산하여 동점이면 최근 상품 우선
+				int[] candidates = unbounded ? orders[ProductSort.RELEVANCE.ordinal()] : byPrice;
+				for (int position : snapshot.vectors().topK(candidates, unbounded ? 0 : from,
+					unbounded ? candidates.length : to, query, limit, null)) {
+					out.add(snapshot.hit(position));
+				}
+				return;
+			}
+
+			if (condition.sort() == ProductSort.PRICE) {
+				for (int i = from; i < to && i < from + limit; i++) {
+					out.add(snapshot.hit(byPrice[i]));
+				}
+				return;
+			}
+
+			// 다른 정렬은 미리 정렬된 순서대로 읽으며 가격 범위 밖의 상품만 건너뜀
+			int[] order = orders[condition.sort().ordinal()];
+			int[] prices = snapshot.prices();
+			int added = 0;
+			for (int i = 0; i < order.length && added < limit; i++) {
+				int price = prices[order[i]];
+				if (unbounded || (price >= minPrice && price <= maxPrice)) {
+					out.add(snapshot.hit(order[i]));
+					added++;
+				}
+			}
+		}
+
+		/**
+		 * 오름차순 배열에서 value 이상인 첫 위치
+		 */
+		private static int lowerBound(int[] values, long value) {
+			int low = 0;
+			int high = values.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (values[mid] < value) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+}
@@ -1,15 +1,36 @@
 package com.team4.giftidea.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.giftidea.dto.ProductCardDTO;
+import com.team4.giftidea.dto.ProductCardJson;
+import com.team4.giftidea.dto.ProductSearchCondition;
+import com.team4.giftidea.entity.Keyword;
 import com.team4.giftidea.entity.Product;
+import com.team4.giftidea.repository.KeywordRepository;
+import com.team4.giftidea.repository.ProductBulkRepository;
+import com.team4.giftidea.repository.ProductKeywordRepository;
 import com.team4.giftidea.repository.ProductRepository;
+import com.team4.giftidea.repository.ProductSummary;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import jakarta.transaction.Transactional;
 
@@ -17,55 +38,201 @@ import jakarta.transaction.Transactional;
 public class ProductService {
 	private static final Logger log = LoggerFactory.getLogger(ProductService.class);
 
+	// GPT 카테고리 하나당 검색할 최대 저장 키워드 수
+	// (동의어 표에 없는 표현으로 측정했을 때 두 번째 후보는 재현율을 올리지 않고 관계없는 키워드만 더했음)
+	private static final int MAX_KEYWORDS_PER_CATEGORY = 1;
+
 	private final ProductRepository productRepository;
+	private final KeywordRepository keywordRepository;
+	private final ProductKeywordRepository productKeywordRepository;
+	private final ProductBulkRepository productBulkRepository;
+	private final ProductIndex productIndex;
+	private final ProductDeduplicator productDeduplicator;
+	private final ObjectMapper objectMapper;
 
 	@Autowired
-	public ProductService(ProductRepository productRepository) {
+	public ProductService(ProductRepository productRepository, KeywordRepository keywordRepository,
+		ProductKeywordRepository productKeywordRepository, ProductBulkRepository productBulkRepository,
+		ProductIndex productIndex, ProductDeduplicator productDeduplicator, ObjectMapper objectMapper) {
 		this.productRepository = productRepository;
+		this.keywordRepository = keywordRepository;
+		this.productKeywordRepository = productKeywordRepository;
+		this.productBulkRepository = productBulkRepository;
+		this.productIndex = productIndex;
+		this.productDeduplicator = productDeduplicator;
+		this.objectMapper = objectMapper;
 	}
 
 	/**
-	 * 키워드에 해당하는 상품을 반환
-	 * 각 키워드 별로 상품 목록을 구분하여 반환
+	 * 키워드별로 가격 범위 안의 상품을 정렬 기준에 따라 상위 limit개씩, 화면 표시용 필드만 담은 JSON 조각으로 반환
+	 * 메모리 인덱스가 준비되어 있으면 카테고리를 가까운 저장 키워드로 연결하여 인덱스에서, 아니면 DB 윈도 함수 쿼리로 조회
 	 *
-	 * @param keywords 검색 키워드 리스트
-	 * @return 키워드 별로 구분된 상품 목록
+	 * @param keywords  검색 키워드 리스트 (GPT 카테고리)
+	 * @param reasons   카테고리별 GPT 추천 근거 (유사도 정렬에 사용, 없으면 카테고리 이름으로 비교)
+	 * @param condition 키워드당 상품 수, 정렬 기준, 가격 범위
+	 * @return 키워드 순서대로, 키워드 안에서는 정렬 기준 순서대로 나열된 상품 목록
 	 */
-	public List<Product> searchByKeywords(List<String> keywords) {
-		// 여러 키워드를 받아 해당하는 상품들을 반환
-		return productRepository.findByKeywordIn(keywords);
+	public List<ProductCardJson> searchByKeywords(List<String> keywords, Map<String, String> reasons,
+		ProductSearchCondition condition) {
+		Optional<List<ProductIndex.Hit>> indexed =
+			productIndex.search(keywords, reasons, MAX_KEYWORDS_PER_CATEGORY, condition);
+		if (indexed.isPresent()) {
+			return indexed.get().stream().map(ProductIndex.Hit::card).toList();
+		}
+
+		// 인덱스 준비 전에는 카테고리를 그대로 키워드로 사용
+		List<String> distinctKeywords = new ArrayList<>(new LinkedHashSet<>(keywords));
+		if (distinctKeywords.isEmpty()) {
+			return List.of();
+		}
+
+		// DB 결과는 키워드 이름순이므로 요청한 키워드 순서로 다시 묶음
+		Map<String, List<ProductCardJson>> byKeyword = new LinkedHashMap<>();
+		distinctKeywords.forEach(keyword -> byKeyword.put(keyword, new ArrayList<>()));
+		List<ProductSummary> summaries =
+			productRepository.findTopByKeywordIn(distinctKeywords, condition.sort().getValue(), condition.limit(),
+				condition.minPrice(), condition.maxPrice());
+		for (ProductSummary summary : summaries) {
+			List<ProductCardJson> products = byKeyword.get(summary.getKeyword());
+			if (products != null) {
+				products.add(ProductCardJson.encode(objectMapper, ProductCardDTO.from(summary)));
+			}
+		}
+		return byKeyword.values().stream().flatMap(List::stream).toList();
 	}
 
 	/**
-	 * 상품 리스트를 저장하며, 기존 상품 ID가 존재하는 경우 중복 저장을 방지합니다.
+	 * 한 키워드로 크롤링한 상품을 한 번에 저장합니다. 크롤러가 사용하는 유일한 저장 경로입니다.
+	 * 기존 상품 조회는 IN 목록 한 번, 저장은 INSERT ... ON DUPLICATE KEY UPDATE 배치로 처리하여 상품마다 SELECT/INSERT를 반복하지 않습니다.
+	 * 내용의 fingerprint가 저장된 값과 같은 상품은 다시 쓰지 않고 수집 시각(lastSeenAt)만 갱신합니다.
+	 * 키워드는 덮어쓰지 않고 상품-키워드 연결로 추가하므로, 여러 키워드로 수집된 상품은 모든 키워드에서 검색됩니다.
+	 * 이미 저장되었거나 같은 요청 안의 같은 상품이 있으면 새 상품은 그 대표 상품의 대체 판매처로 저장되고, 키워드는 대표 상품에도 연결됩니다.
 	 *
 	 * @param productList 저장할 상품 리스트
-	 * @param keyword     상품에 연관된 키워드
+	 * @param keyword     상품을 수집한 검색 키워드
 	 */
 	@Transactional
-	public void saveItems(List<Product> productList, String keyword) {
-		log.info("🟢 [{}] 저장 시작 - 총 {}개", keyword, productList.size());
+	public void upsertItems(List<Product> productList, String keyword) {
+		if (productList.isEmpty()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		Keyword keywordEntity = keywordRepository.findByName(keyword)
+			.orElseGet(() -> keywordRepository.save(new Keyword(keyword)));
+
+		// 같은 상품 ID가 여러 번 오면 마지막 값을 사용
+		Map<String, Product> byProductId = new LinkedHashMap<>();
+		productList.forEach(product -> byProductId.put(product.getProductId(), product));
+		Map<String, ProductBulkRepository.ProductRef> existing = productBulkRepository.findRefs(byProductId.keySet());
 
-		productList.forEach(product -> {
+		LocalDateTime now = LocalDateTime.now();
+		List<Product> changed = new ArrayList<>();
+		List<Long> unchanged = new ArrayList<>();
+		boolean revived = false;
+		Map<Long, Integer> changedPrices = new HashMap<>();
+		List<Product> newCanonicals = new ArrayList<>();
+		Map<String, String> canonicalInBatch = new HashMap<>();
+		for (Product product : byProductId.values()) {
+			long fingerprint = fingerprint(product);
+			product.setFingerprint(fingerprint);
+			product.setLastSeenAt(now);
+			product.setLastChangedAt(now);
+			ProductBulkRepository.ProductRef ref = existing.get(product.getProductId());
+			if (ref != null) {
+				revived |= ref.expired();
+				// ✅ 기존 상품 → 내용이 같으면 수집 시각만, 바뀌었으면 덮어쓰기 (최초 수집 키워드와 중복 묶음은 유지)
+				if (Objects.equals(ref.fingerprint(), fingerprint)) {
+					unchanged.add(ref.id());
+					continue;
+				}
+				changed.add(product);
+				if (!Objects.equals(ref.price(), product.getPrice())) {
+					changedPrices.put(ref.id(), product.getPrice());
+				}
+				continue;
+			}
+			// ✅ 신규 상품 → 저장된 대표 상품, 없으면 같은 요청 안에서 먼저 나온 같은 상품에 연결
+			changed.add(product);
 			product.setKeyword(keyword);
+			productDeduplicator.assignCanonical(product);
+			if (product.getCanonicalId() == null) {
+				Optional<Product> twin = newCanonicals.stream()
+					.filter(other -> productDeduplicator.isDuplicate(other.getSimhash(), priceOf(other),
+						product.getSimhash(), priceOf(product)))
+					.findFirst();
+				if (twin.isPresent()) {
+					canonicalInBatch.put(product.getProductId(), twin.get().getProductId());
+				} else {
+					newCanonicals.add(product);
+				}
+			}
+		}
 
-			// ✅ 기존 상품이 있는 경우 → 업데이트 (덮어쓰기)
-			productRepository.findByProductId(product.getProductId()).ifPresentOrElse(existingProduct -> {
-				existingProduct.setTitle(product.getTitle());
-				existingProduct.setPrice(product.getPrice());
-				existingProduct.setImage(product.getImage());
-				existingProduct.setLink(product.getLink());
-				existingProduct.setMallName(product.getMallName());
-				productRepository.save(existingProduct);
-				log.info("🔄 상품 업데이트 완료 [{}]", existingProduct.getProductId());
-			}, () -> {
-				// ✅ 기존 상품이 없으면 신규 저장
-				productRepository.save(product);
-				log.info("💾 신규 상품 저장 [{}]", product.getProductId());
-			});
+		productBulkRepository.upsert(changed);
+		productBulkRepository.touch(unchanged, now);
+		productBulkRepository.linkCanonical(canonicalInBatch);
+		productBulkRepository.updateLinkPrices(changedPrices);
+
+		Map<String, ProductBulkRepository.ProductRef> saved = new HashMap<>(existing);
+		List<String> inserted = byProductId.keySet().stream().filter(productId -> !existing.containsKey(productId)).toList();
+		saved.putAll(productBulkRepository.findRefs(inserted));
+		for (Product product : newCanonicals) {
+			ProductBulkRepository.ProductRef ref = saved.get(product.getProductId());
+			if (ref != null) {
+				productDeduplicator.register(ref.id(), product.getSimhash(), priceOf(product));
+			}
+		}
+		if (revived) {
+			// 만료되었다가 다시 수집된 대표 상품을 중복 판별 색인에 되돌림
+			productDeduplicator.invalidate();
+		}
+		Set<Long> linked = new LinkedHashSet<>();
+		saved.values().forEach(ref -> {
+			linked.add(ref.id());
+			if (ref.canonicalId() != null) {
+				linked.add(ref.canonicalId());
+			}
 		});
+		productBulkRepository.insertLinks(linked, keywordEntity.getId());
+
+		log.info("✅ [{}] 저장 완료 - 신규 {}개, 변경 {}개 (가격 변경 {}개), 변경 없음 {}개, {}ms", keyword,
+			inserted.size(), changed.size() - inserted.size(), changedPrices.size(), unchanged.size(),
+			System.currentTimeMillis() - start);
+	}
+
+	/**
+	 * 크롤링으로 갱신되는 내용(상품명, 가격, 이미지, 링크, 판매처)의 64비트 FNV-1a 해시
+	 */
+	static long fingerprint(Product product) {
+		long hash = 0xcbf29ce484222325L;
+		for (Object field : new Object[] {product.getTitle(), product.getPrice(), product.getImage(), product.getLink(),
+			product.getMallName()}) {
+			String value = String.valueOf(field);
+			for (int i = 0; i < value.length(); i++) {
+				hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+			}
+			// 필드 경계 구분
+			hash = (hash ^ 0x1F) * 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	/**
+	 * products.keyword 컬럼에만 저장되어 있던 기존 상품을 상품-키워드 연결 테이블로 옮깁니다.
+	 * 이미 옮겨진 키워드와 연결은 건너뛰므로 기동할 때마다 실행해도 안전하며, 메모리 인덱스 생성보다 먼저 실행됩니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(0)
+	@Transactional
+	public void backfillKeywordLinks() {
+		int keywords = productKeywordRepository.backfillKeywords();
+		int links = productKeywordRepository.backfillLinks();
+		if (keywords > 0 || links > 0) {
+			log.info("🔗 상품-키워드 연결 이관 완료 - 키워드 {}개, 연결 {}개 추가", keywords, links);
+		}
+	}
 
-		productRepository.flush();
-		log.info("✅ [{}] 저장 완료 (flush 호출됨)", keyword);
+	private static int priceOf(Product product) {
+		return product.getPrice() == null ? 0 : product.getPrice();
 	}
-}
\ No newline at end of file
+}
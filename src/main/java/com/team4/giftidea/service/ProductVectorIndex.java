@@ -0,0 +1,167 @@
+package com.team4.giftidea.service;
+
+import com.team4.giftidea.entity.Product;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * 상품 텍스트(상품명, 브랜드, 카테고리)의 해시 문자 n-gram 벡터를 오프힙 float 행렬로 보관하는 로컬 벡터 인덱스
+ * 외부 임베딩 서비스 없이 GPT 추천 근거와 상품의 유사도를 계산하여 키워드 안의 상품 순위를 정할 때 사용합니다.
+ * 상품 번호(행)는 {@link ProductIndex} 스냅샷의 상품 배열 위치와 같으며, 생성 후에는 변경되지 않습니다.
+ */
+public final class ProductVectorIndex {
+
+	/** 벡터 차원 (2의 거듭제곱, 상품 하나당 DIMENSIONS * 4바이트) */
+	public static final int DIMENSIONS = 128;
+
+	private final FloatBuffer matrix;
+	private final int rows;
+
+	/**
+	 * @param products 상품 배열 (배열 위치 = 행 번호)
+	 */
+	public ProductVectorIndex(Product[] products) {
+		this.rows = products.length;
+		this.matrix = ByteBuffer.allocateDirect(Math.max(1, rows) * DIMENSIONS * Float.BYTES)
+			.order(ByteOrder.nativeOrder())
+			.asFloatBuffer();
+		float[] vector = new float[DIMENSIONS];
+		for (int row = 0; row < rows; row++) {
+			Product product = products[row];
+			embed(join(product.getTitle(), product.getBrand(), product.getCategory()), vector);
+			matrix.put(row * DIMENSIONS, vector);
+		}
+	}
+
+	/**
+	 * 텍스트를 L2 정규화된 해시 n-gram 벡터로 변환합니다.
+	 * 공백으로 나눈 단어 자체와, 공백을 제외한 문자열의 글자 bigram/trigram을 특징으로 사용합니다.
+	 *
+	 * @param text 변환할 텍스트
+	 * @param out  결과를 담을 DIMENSIONS 길이의 배열
+	 */
+	public static void embed(String text, float[] out) {
+		Arrays.fill(out, 0f);
+		if (text == null || text.isBlank()) {
+			return;
+		}
+		String lower = text.toLowerCase();
+		StringBuilder compact = new StringBuilder(lower.length());
+		int wordStart = -1;
+		for (int i = 0; i <= lower.length(); i++) {
+			boolean letter = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+			if (letter) {
+				compact.append(lower.charAt(i));
+				if (wordStart < 0) {
+					wordStart = i;
+				}
+			} else if (wordStart >= 0) {
+				add(out, lower.substring(wordStart, i).hashCode(), 1.5f);
+				wordStart = -1;
+			}
+		}
+		for (int i = 0; i + 1 < compact.length(); i++) {
+			int bigram = compact.charAt(i) * 31 + compact.charAt(i + 1);
+			add(out, bigram, 1f);
+			if (i + 2 < compact.length()) {
+				add(out, bigram * 31 + compact.charAt(i + 2), 1f);
+			}
+		}
+
+		float norm = 0f;
+		for (float value : out) {
+			norm += value * value;
+		}
+		if (norm > 0f) {
+			float scale = (float) (1.0 / Math.sqrt(norm));
+			for (int i = 0; i < out.length; i++) {
+				out[i] *= scale;
+			}
+		}
+	}
+
+	/**
+	 * 두 벡터의 내적 (모두 정규화되어 있으므로 코사인 유사도)
+	 * 네 개의 누산기로 펼쳐 JIT가 SIMD 명령으로 바꾸기 쉽게 합니다.
+	 */
+	private static float dot(float[] a, float[] b) {
+		float s0 = 0f;
+		float s1 = 0f;
+		float s2 = 0f;
+		float s3 = 0f;
+		for (int i = 0; i < DIMENSIONS; i += 4) {
+			s0 += a[i] * b[i];
+			s1 += a[i + 1] * b[i + 1];
+			s2 += a[i + 2] * b[i + 2];
+			s3 += a[i + 3] * b[i + 3];
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	/**
+	 * 후보 행 중 질의 벡터와 가장 유사한 k개를 찾습니다. 유사도가 같으면 후보 배열에서 앞선 행이 먼저 옵니다.
+	 *
+	 * @param candidates 후보 행 번호
+	 * @param from       후보 배열 시작 위치 (포함)
+	 * @param to         후보 배열 끝 위치 (미포함)
+	 * @param query      질의 벡터
+	 * @param k          찾을 개수
+	 * @param filter     후보 조건 (null이면 모두 허용)
+	 * @return 유사도 내림차순의 행 번호
+	 */
+	public int[] topK(int[] candidates, int from, int to, float[] query, int k, IntPredicate filter) {
+		int[] best = new int[k];
+		float[] scores = new float[k];
+		float[] scratch = new float[DIMENSIONS];
+		int size = 0;
+		for (int i = from; i < to; i++) {
+			int row = candidates[i];
+			if (filter != null && !filter.test(row)) {
+				continue;
+			}
+			// 오프힙 행을 한 번에 복사한 뒤 배열 내적 계산
+			matrix.get(row * DIMENSIONS, scratch, 0, DIMENSIONS);
+			float score = dot(scratch, query);
+			if (size == k && score <= scores[size - 1]) {
+				continue;
+			}
+			// 점수 내림차순을 유지하며 삽입 (k가 작으므로 삽입 정렬)
+			int position = size == k ? k - 1 : size++;
+			while (position > 0 && scores[position - 1] < score) {
+				scores[position] = scores[position - 1];
+				best[position] = best[position - 1];
+				position--;
+			}
+			scores[position] = score;
+			best[position] = row;
+		}
+		return size == k ? best : Arrays.copyOf(best, size);
+	}
+
+	/**
+	 * @return 행렬이 차지하는 오프힙 메모리 (바이트)
+	 */
+	public long offHeapBytes() {
+		return (long) rows * DIMENSIONS * Float.BYTES;
+	}
+
+	private static void add(float[] out, int hash, float weight) {
+		int mixed = hash * 0x9E3779B9;
+		mixed ^= mixed >>> 16;
+		out[mixed & (DIMENSIONS - 1)] += (mixed & 0x8000) == 0 ? weight : -weight;
+	}
+
+	private static String join(String... parts) {
+		StringBuilder text = new StringBuilder();
+		for (String part : parts) {
+			if (part != null) {
+				text.append(part).append(' ');
+			}
+		}
+		return text.toString();
+	}
+}
@@ -0,0 +1,90 @@
+package com.team4.giftidea.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {theme}, {message} 자리표시자를 가진 프롬프트 템플릿
+ * 생성 시 고정 문자열 조각과 자리표시자로 미리 나누어 두므로, 렌더링은 문자열 이어 붙이기만 수행합니다.
+ */
+public final class PromptTemplate {
+
+	private static final String THEME_PLACEHOLDER = "{theme}";
+	private static final String MESSAGE_PLACEHOLDER = "{message}";
+
+	/**
+	 * 고정 문자열 조각 (null이면 자리표시자)
+	 */
+	private final String[] literals;
+
+	/**
+	 * 각 조각의 종류 (고정 문자열 또는 자리표시자)
+	 */
+	private final Slot[] slots;
+
+	private final int literalLength;
+
+	private enum Slot { LITERAL, THEME, MESSAGE }
+
+	private PromptTemplate(String[] literals, Slot[] slots) {
+		this.literals = literals;
+		this.slots = slots;
+		int length = 0;
+		for (String literal : literals) {
+			length += literal == null ? 0 : literal.length();
+		}
+		this.literalLength = length;
+	}
+
+	/**
+	 * 템플릿 문자열을 조각으로 나눕니다.
+	 *
+	 * @param source 자리표시자를 포함한 템플릿 문자열
+	 * @return 컴파일된 템플릿
+	 */
+	public static PromptTemplate compile(String source) {
+		List<String> literals = new ArrayList<>();
+		List<Slot> slots = new ArrayList<>();
+		int from = 0;
+		while (from < source.length()) {
+			int theme = source.indexOf(THEME_PLACEHOLDER, from);
+			int message = source.indexOf(MESSAGE_PLACEHOLDER, from);
+			int next = theme == -1 ? message : (message == -1 ? theme : Math.min(theme, message));
+			if (next == -1) {
+				break;
+			}
+			if (next > from) {
+				literals.add(source.substring(from, next));
+				slots.add(Slot.LITERAL);
+			}
+			boolean isTheme = next == theme;
+			literals.add(null);
+			slots.add(isTheme ? Slot.THEME : Slot.MESSAGE);
+			from = next + (isTheme ? THEME_PLACEHOLDER.length() : MESSAGE_PLACEHOLDER.length());
+		}
+		if (from < source.length()) {
+			literals.add(source.substring(from));
+			slots.add(Slot.LITERAL);
+		}
+		return new PromptTemplate(literals.toArray(new String[0]), slots.toArray(new Slot[0]));
+	}
+
+	/**
+	 * 자리표시자를 치환하여 프롬프트를 만듭니다.
+	 *
+	 * @param theme   선물 주제
+	 * @param message 대화 텍스트
+	 * @return 완성된 프롬프트
+	 */
+	public String render(String theme, String message) {
+		StringBuilder prompt = new StringBuilder(literalLength + message.length() + 32);
+		for (int i = 0; i < slots.length; i++) {
+			switch (slots[i]) {
+				case LITERAL -> prompt.append(literals[i]);
+				case THEME -> prompt.append(theme);
+				case MESSAGE -> prompt.append(message);
+			}
+		}
+		return prompt.toString();
+	}
+}
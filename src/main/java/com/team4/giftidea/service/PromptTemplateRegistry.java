@@ -0,0 +1,76 @@
+package com.team4.giftidea.service;
+
+import com.team4.giftidea.configuration.PromptProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 설정(prompts.yml)에서 읽은 프롬프트 템플릿을 (관계, 성별, 주제)로 찾아 주는 레지스트리
+ * 템플릿은 기동 시 한 번 컴파일되며, 고정 지시문을 앞에 두고 대화 텍스트를 맨 뒤에 배치합니다.
+ * 관계를 지정한 템플릿이 있는 관계는 해당 템플릿끼리만 비교하여, 성별이 맞지 않으면 관계를 지정하지 않은
+ * 템플릿(집들이, 발렌타인 등)으로 넘어가지 않고 템플릿 없음으로 처리합니다. (기존 if 분기와 같은 동작)
+ */
+@Service
+@Slf4j
+public class PromptTemplateRegistry {
+
+	private final List<Entry> entries = new ArrayList<>();
+	private final Set<String> relations = new HashSet<>();
+
+	public PromptTemplateRegistry(PromptProperties promptProperties) {
+		for (PromptProperties.Template template : promptProperties.getTemplates()) {
+			String source = promptProperties.getCommon() + "\n" + template.getBody() + promptProperties.getSuffix();
+			entries.add(new Entry(template.getRelation(), template.getSex(), template.getTheme(),
+				PromptTemplate.compile(source)));
+			if (template.getRelation() != null && !template.getRelation().isBlank()) {
+				relations.add(template.getRelation());
+			}
+		}
+		log.info("📝 프롬프트 템플릿 {}개 로드 완료", entries.size());
+	}
+
+	/**
+	 * 조건에 맞는 첫 번째 템플릿을 찾습니다.
+	 * 템플릿 수가 적어 매번 순서대로 비교하며, 결과를 따로 저장하지 않습니다.
+	 *
+	 * @param relation 대상과의 관계
+	 * @param sex      대상 성별
+	 * @param theme    선물 주제
+	 * @return 조건에 맞는 템플릿 (없으면 Optional.empty())
+	 */
+	public Optional<PromptTemplate> find(String relation, String sex, String theme) {
+		boolean ownRelation = relations.contains(relation);
+		for (Entry entry : entries) {
+			if (ownRelation != entry.hasRelation()) {
+				continue;
+			}
+			if (entry.matches(relation, sex, theme)) {
+				return Optional.of(entry.template());
+			}
+		}
+		return Optional.empty();
+	}
+
+	private record Entry(String relation, String sex, String theme, PromptTemplate template) {
+
+		boolean hasRelation() {
+			return relation != null && !relation.isBlank();
+		}
+
+		boolean matches(String relation, String sex, String theme) {
+			return matchesField(this.relation, relation)
+				&& matchesField(this.sex, sex)
+				&& matchesField(this.theme, theme);
+		}
+
+		private static boolean matchesField(String expected, String actual) {
+			return expected == null || expected.isBlank() || expected.equals(actual);
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package com.team4.giftidea.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 파일의 끝에서부터 한 줄씩 거꾸로 읽는 UTF-8 라인 리더
+ * '\n' 바이트는 UTF-8 멀티바이트 시퀀스 안에 나타나지 않으므로 바이트 단위로 줄을 나눈 뒤 줄마다 디코딩합니다.
+ */
+public final class ReverseLineReader implements Closeable {
+
+	private static final int BLOCK_SIZE = 64 * 1024;
+
+	private final FileChannel channel;
+	private final ByteBuffer block = ByteBuffer.allocate(BLOCK_SIZE);
+
+	/**
+	 * 아직 블록으로 읽어 오지 않은 영역의 끝 (파일 오프셋)
+	 */
+	private long position;
+
+	/**
+	 * 현재 블록에서 아직 소비하지 않은 바이트 수 ([0, cursor) 구간)
+	 */
+	private int cursor;
+
+	/**
+	 * 블록 경계에 걸친 줄 조각 (pending[pendingStart, pending.length) 구간에 저장)
+	 */
+	private byte[] pending = new byte[256];
+	private int pendingStart = pending.length;
+
+	private boolean exhausted;
+
+	/**
+	 * @param path 읽을 파일 경로
+	 * @throws IOException 파일 열기 실패 시
+	 */
+	public ReverseLineReader(Path path) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		this.position = channel.size();
+		skipTrailingNewline();
+	}
+
+	/**
+	 * 이전 줄(파일 앞쪽 방향)을 읽습니다. 줄 끝의 '\r'은 제거됩니다.
+	 *
+	 * @return 다음으로 읽은 줄, 파일의 시작에 도달하면 null
+	 * @throws IOException 파일 읽기 실패 시
+	 */
+	public String readLine() throws IOException {
+		if (exhausted) {
+			return null;
+		}
+		byte[] bytes = block.array();
+		while (true) {
+			for (int i = cursor - 1; i >= 0; i--) {
+				if (bytes[i] == '\n') {
+					prependPending(bytes, i + 1, cursor - (i + 1));
+					cursor = i;
+					return takePending();
+				}
+			}
+			prependPending(bytes, 0, cursor);
+			cursor = 0;
+
+			if (position == 0) {
+				exhausted = true;
+				return takePending();
+			}
+			fillPreviousBlock();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	private void skipTrailingNewline() throws IOException {
+		if (position == 0) {
+			exhausted = true;
+			return;
+		}
+		fillPreviousBlock();
+		if (block.array()[cursor - 1] == '\n') {
+			cursor--;
+			if (cursor == 0 && position == 0) {
+				exhausted = true;
+			}
+		}
+	}
+
+	private void fillPreviousBlock() throws IOException {
+		int size = (int) Math.min(BLOCK_SIZE, position);
+		position -= size;
+		block.clear().limit(size);
+		while (block.hasRemaining()) {
+			if (channel.read(block, position + block.position()) < 0) {
+				throw new IOException("파일을 끝까지 읽지 못했습니다.");
+			}
+		}
+		cursor = size;
+	}
+
+	private void prependPending(byte[] source, int offset, int length) {
+		if (length == 0) {
+			return;
+		}
+		if (pendingStart < length) {
+			int used = pending.length - pendingStart;
+			byte[] grown = new byte[Math.max(pending.length * 2, used + length)];
+			System.arraycopy(pending, pendingStart, grown, grown.length - used, used);
+			pendingStart = grown.length - used;
+			pending = grown;
+		}
+		pendingStart -= length;
+		System.arraycopy(source, offset, pending, pendingStart, length);
+	}
+
+	private String takePending() {
+		int end = pending.length;
+		if (end > pendingStart && pending[end - 1] == '\r') {
+			end--;
+		}
+		String line = new String(pending, pendingStart, end - pendingStart, StandardCharsets.UTF_8);
+		pendingStart = pending.length;
+		return line;
+	}
+}
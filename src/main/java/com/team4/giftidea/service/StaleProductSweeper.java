@@ -0,0 +1,82 @@
+package com.team4.giftidea.service;
+
+import com.team4.giftidea.entity.CrawlRun;
+import com.team4.giftidea.repository.CrawlRunRepository;
+import com.team4.giftidea.repository.ProductBulkRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 판매처에서 사라진 상품을 만료 처리하는 서비스 클래스
+ * 크롤링이 끝날 때마다 실행 기록을 남기고, 최근 N번의 (모든 키워드가 성공한) 크롤링에서 한 번도 수집되지 않은 상품을
+ * 만료 처리하여 추천, 메모리 인덱스, 카탈로그 스냅샷에서 제외합니다. 만료된 상품은 다시 수집되면 되살아납니다.
+ */
+@Service
+@Slf4j
+public class StaleProductSweeper {
+
+	private final CrawlRunRepository crawlRunRepository;
+	private final ProductBulkRepository productBulkRepository;
+	private final ProductDeduplicator productDeduplicator;
+	private final boolean enabled;
+	private final int missedCrawls;
+
+	/**
+	 * @param enabled      만료 처리 사용 여부 (꺼도 크롤링 실행 기록은 남김)
+	 * @param missedCrawls 이 횟수의 크롤링 동안 수집되지 않은 상품을 만료
+	 */
+	public StaleProductSweeper(
+		CrawlRunRepository crawlRunRepository,
+		ProductBulkRepository productBulkRepository,
+		ProductDeduplicator productDeduplicator,
+		@Value("${product.expiry.enabled:true}") boolean enabled,
+		@Value("${product.expiry.missed-crawls:3}") int missedCrawls) {
+		this.crawlRunRepository = crawlRunRepository;
+		this.productBulkRepository = productBulkRepository;
+		this.productDeduplicator = productDeduplicator;
+		this.enabled = enabled;
+		this.missedCrawls = missedCrawls;
+	}
+
+	/**
+	 * 크롤링 실행 기록을 저장하고, 최근 missed-crawls번의 크롤링에서 수집되지 않은 상품을 만료 처리합니다.
+	 * 실패한 키워드가 있는 크롤링은 그 키워드의 상품을 수집하지 못했으므로 만료 판단에 쓰지 않습니다.
+	 *
+	 * @param report 끝난 크롤링의 보고서
+	 * @return 만료된 상품 수
+	 */
+	@Transactional
+	public int afterCrawl(CrawlScheduler.CrawlReport report) {
+		CrawlRun run = new CrawlRun();
+		run.setStartedAt(report.startedAt());
+		run.setFinishedAt(report.startedAt().plusNanos(report.totalMillis() * 1_000_000));
+		run.setKeywords(report.keywords().size());
+		run.setProducts(report.keywords().stream().mapToInt(CrawlScheduler.KeywordTiming::products).sum());
+		run.setFailures((int) report.failures());
+		run.setComplete(report.failures() == 0);
+		crawlRunRepository.save(run);
+
+		if (!enabled || missedCrawls <= 0) {
+			return 0;
+		}
+		List<CrawlRun> recent = crawlRunRepository.findRecentComplete(PageRequest.of(0, missedCrawls));
+		if (recent.size() < missedCrawls) {
+			log.info("🧹 만료 처리 건너뜀 - 성공한 크롤링 기록 {}/{}회", recent.size(), missedCrawls);
+			return 0;
+		}
+		LocalDateTime cutoff = recent.get(missedCrawls - 1).getStartedAt();
+		int expired = productBulkRepository.expireUnseenSince(cutoff, LocalDateTime.now());
+		if (expired > 0) {
+			// 만료된 대표 상품을 중복 판별 색인에서 제외
+			productDeduplicator.invalidate();
+		}
+		log.info("🧹 {} 이후 수집되지 않은 상품 {}개 만료 (최근 {}회 크롤링 기준)", cutoff, expired, missedCrawls);
+		return expired;
+	}
+}
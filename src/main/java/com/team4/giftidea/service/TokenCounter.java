@@ -0,0 +1,66 @@
+package com.team4.giftidea.service;
+
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 설정된 OpenAI 모델(openai.model)의 BPE 인코딩으로 토큰 수를 계산하는 서비스 클래스
+ * 토크나이저는 로컬에서 동작하며, 대화에서 자주 반복되는 짧은 줄("ㅇㅇ", "응" 등)의 결과는 캐시합니다.
+ */
+@Service
+@Slf4j
+public class TokenCounter {
+
+	private static final int CACHE_MAX_ENTRIES = 50_000;
+	private static final int CACHE_MAX_LINE_LENGTH = 64;
+
+	private final Encoding encoding;
+	private final Map<String, Integer> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * @param model 토큰 계산 기준이 되는 OpenAI 모델명 (예: gpt-4o)
+	 */
+	public TokenCounter(@Value("${openai.model}") String model) {
+		this.encoding = Encodings.newLazyEncodingRegistry().getEncodingForModel(model).orElse(null);
+		if (encoding == null) {
+			log.warn("⚠️ 모델 [{}]의 토크나이저를 찾을 수 없어 공백 기준으로 토큰을 계산합니다.", model);
+		} else {
+			log.info("🔢 토큰 계산 인코딩: {} (모델: {})", encoding.getName(), model);
+		}
+	}
+
+	/**
+	 * 문자열의 토큰 수를 계산합니다.
+	 *
+	 * @param text 대상 문자열
+	 * @return 모델 기준 토큰 수 (null 또는 빈 문자열이면 0)
+	 */
+	public int count(String text) {
+		if (text == null || text.isEmpty()) {
+			return 0;
+		}
+		if (encoding == null) {
+			return ChatLineNormalizer.countTokens(text);
+		}
+		if (text.length() > CACHE_MAX_LINE_LENGTH) {
+			return encoding.countTokens(text);
+		}
+
+		Integer cached = cache.get(text);
+		if (cached != null) {
+			return cached;
+		}
+		int tokens = encoding.countTokens(text);
+		if (cache.size() >= CACHE_MAX_ENTRIES) {
+			cache.clear();
+		}
+		cache.put(text, tokens);
+		return tokens;
+	}
+}
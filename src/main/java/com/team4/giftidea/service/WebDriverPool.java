@@ -0,0 +1,283 @@
+package com.team4.giftidea.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 크롤러가 키워드마다 빌려 쓰는 headless Chrome 드라이버 풀
+ * 키워드마다 Chrome을 새로 띄우지 않고 실행 중인 브라우저(프로필, 캐시 유지)를 재사용하며,
+ * 빌려줄 때 응답 여부를 확인하고, 정해진 횟수만큼 쓰였거나 응답하지 않는 드라이버는 종료 후 새로 만듭니다.
+ * 동시에 실행되는 Chrome 수는 max-size와 max-memory / memory-per-driver 중 작은 값으로 제한됩니다.
+ */
+@Service
+@Slf4j
+public class WebDriverPool {
+
+	private final Supplier<WebDriver> driverFactory;
+	private final int capacity;
+	private final int maxUses;
+	private final Duration leaseTimeout;
+	private final Duration idleTimeout;
+	private final Semaphore permits;
+	private final Deque<PooledDriver> idle = new ConcurrentLinkedDeque<>();
+	private final AtomicInteger leased = new AtomicInteger();
+	private volatile boolean closed;
+
+	private final Counter createdCounter;
+	private final Counter recycledCounter;
+	private final Counter brokenCounter;
+	private final Timer leaseWaitTimer;
+
+	/**
+	 * @param chromeDriverPath chromedriver 실행 파일 경로
+	 * @param headless         headless 모드 사용 여부
+	 * @param maxSize          동시에 실행할 수 있는 최대 Chrome 수
+	 * @param maxMemory        풀 전체가 사용할 수 있는 메모리
+	 * @param memoryPerDriver  Chrome 한 개가 사용하는 것으로 잡을 메모리
+	 * @param maxUses          드라이버를 재생성하기 전까지 빌려줄 최대 횟수
+	 * @param leaseTimeout     드라이버를 기다리는 최대 시간
+	 * @param idleTimeout      이 시간 동안 쓰이지 않은 드라이버는 종료
+	 */
+	@Autowired
+	public WebDriverPool(
+		MeterRegistry meterRegistry,
+		@Value("${selenium.chromedriver-path}") String chromeDriverPath,
+		@Value("${selenium.pool.headless:true}") boolean headless,
+		@Value("${selenium.pool.max-size:3}") int maxSize,
+		@Value("${selenium.pool.max-memory:1200MB}") DataSize maxMemory,
+		@Value("${selenium.pool.memory-per-driver:400MB}") DataSize memoryPerDriver,
+		@Value("${selenium.pool.max-uses:20}") int maxUses,
+		@Value("${selenium.pool.lease-timeout:5m}") Duration leaseTimeout,
+		@Value("${selenium.pool.idle-timeout:10m}") Duration idleTimeout) {
+		this(chromeDriverFactory(chromeDriverPath, headless),
+			Math.max(1, Math.min(maxSize, (int) (maxMemory.toBytes() / Math.max(1, memoryPerDriver.toBytes())))),
+			maxUses, leaseTimeout, idleTimeout, meterRegistry);
+	}
+
+	WebDriverPool(Supplier<WebDriver> driverFactory, int capacity, int maxUses, Duration leaseTimeout,
+		Duration idleTimeout, MeterRegistry meterRegistry) {
+		this.driverFactory = driverFactory;
+		this.capacity = capacity;
+		this.maxUses = Math.max(1, maxUses);
+		this.leaseTimeout = leaseTimeout;
+		this.idleTimeout = idleTimeout;
+		this.permits = new Semaphore(capacity, true);
+
+		this.createdCounter = meterRegistry.counter("selenium.pool.created");
+		this.recycledCounter = meterRegistry.counter("selenium.pool.recycled", "reason", "max-uses");
+		this.brokenCounter = meterRegistry.counter("selenium.pool.recycled", "reason", "unhealthy");
+		this.leaseWaitTimer = meterRegistry.timer("selenium.pool.lease.wait");
+		meterRegistry.gauge("selenium.pool.capacity", this, pool -> pool.capacity);
+		meterRegistry.gauge("selenium.pool.leased", leased);
+		meterRegistry.gauge("selenium.pool.idle", idle, Deque::size);
+		log.info("🧭 WebDriver 풀 생성 - 최대 {}개, 드라이버당 최대 {}회 사용", capacity, this.maxUses);
+	}
+
+	/**
+	 * 드라이버를 빌립니다. 쉬고 있는 드라이버가 있으면 응답 여부를 확인한 뒤 재사용하고, 없으면 새로 띄웁니다.
+	 * 사용이 끝나면 반드시 {@link Lease#close()}로 반납해야 하므로 try-with-resources로 사용합니다.
+	 *
+	 * @return 드라이버 대여
+	 * @throws IllegalStateException lease-timeout 안에 드라이버를 빌리지 못했을 때
+	 */
+	public Lease lease() {
+		long start = System.nanoTime();
+		try {
+			if (closed || !permits.tryAcquire(leaseTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				throw new IllegalStateException("WebDriver를 빌리지 못했습니다. (대기 " + leaseTimeout.toSeconds() + "초 초과)");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("WebDriver 대기 중 인터럽트 발생", e);
+		}
+		leaseWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+		try {
+			PooledDriver pooled;
+			while ((pooled = idle.pollFirst()) != null) {
+				if (isHealthy(pooled.driver)) {
+					break;
+				}
+				brokenCounter.increment();
+				log.warn("⚠️ 응답하지 않는 WebDriver 폐기 ({}회 사용)", pooled.uses);
+				quit(pooled);
+			}
+			if (pooled == null) {
+				pooled = new PooledDriver(driverFactory.get());
+				createdCounter.increment();
+			}
+			pooled.uses++;
+			leased.incrementAndGet();
+			return new Lease(pooled);
+		} catch (RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * idle-timeout 동안 쓰이지 않은 드라이버를 종료하여 크롤링이 없는 시간에는 Chrome이 떠 있지 않게 합니다.
+	 */
+	@Scheduled(fixedDelayString = "${selenium.pool.idle-check-interval:1m}")
+	public void evictIdle() {
+		long deadline = System.currentTimeMillis() - idleTimeout.toMillis();
+		for (PooledDriver pooled : idle) {
+			if (pooled.releasedAt <= deadline && idle.removeFirstOccurrence(pooled)) {
+				log.debug("쉬고 있는 WebDriver 종료 ({}회 사용)", pooled.uses);
+				quit(pooled);
+			}
+		}
+	}
+
+	/**
+	 * @return 현재 빌려준 드라이버 수
+	 */
+	public int leasedCount() {
+		return leased.get();
+	}
+
+	/**
+	 * @return 반납되어 재사용을 기다리는 드라이버 수
+	 */
+	public int idleCount() {
+		return idle.size();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		closed = true;
+		List<PooledDriver> remaining = new ArrayList<>(idle);
+		idle.clear();
+		remaining.forEach(WebDriverPool::quit);
+	}
+
+	private void release(PooledDriver pooled, boolean broken) {
+		leased.decrementAndGet();
+		try {
+			if (closed) {
+				quit(pooled);
+			} else if (broken || !reset(pooled.driver)) {
+				brokenCounter.increment();
+				log.warn("⚠️ 오류가 발생한 WebDriver 폐기 ({}회 사용)", pooled.uses);
+				quit(pooled);
+			} else if (pooled.uses >= maxUses) {
+				recycledCounter.increment();
+				log.debug("WebDriver 재생성 ({}회 사용)", pooled.uses);
+				quit(pooled);
+			} else {
+				pooled.releasedAt = System.currentTimeMillis();
+				idle.offerFirst(pooled);
+			}
+		} finally {
+			permits.release();
+		}
+	}
+
+	/**
+	 * 다음 사용자를 위해 빈 페이지로 이동합니다. 응답이 없으면 false
+	 */
+	private static boolean reset(WebDriver driver) {
+		try {
+			driver.get("about:blank");
+			return true;
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+
+	private static boolean isHealthy(WebDriver driver) {
+		try {
+			driver.getWindowHandle();
+			return true;
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+
+	private static void quit(PooledDriver pooled) {
+		try {
+			pooled.driver.quit();
+		} catch (RuntimeException e) {
+			log.debug("WebDriver 종료 실패: {}", e.getMessage());
+		}
+	}
+
+	private static Supplier<WebDriver> chromeDriverFactory(String chromeDriverPath, boolean headless) {
+		return () -> {
+			System.setProperty("webdriver.chrome.driver", chromeDriverPath);
+			ChromeOptions options = new ChromeOptions();
+			options.addArguments("user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) "
+				+ "AppleWebKit/537.36 (KHTML, like Gecko) Chrome/91.0.4472.124 Safari/537.36");
+			options.addArguments("--disable-dev-shm-usage", "--disable-gpu", "--window-size=1920,1080");
+			if (headless) {
+				options.addArguments("--headless=new");
+			}
+			return new ChromeDriver(options);
+		};
+	}
+
+	private static final class PooledDriver {
+
+		private final WebDriver driver;
+		private int uses;
+		private volatile long releasedAt;
+
+		private PooledDriver(WebDriver driver) {
+			this.driver = driver;
+		}
+	}
+
+	/**
+	 * 빌린 드라이버, close()로 반납합니다.
+	 */
+	public final class Lease implements AutoCloseable {
+
+		private final PooledDriver pooled;
+		private boolean broken;
+		private boolean returned;
+
+		private Lease(PooledDriver pooled) {
+			this.pooled = pooled;
+		}
+
+		public WebDriver driver() {
+			return pooled.driver;
+		}
+
+		/**
+		 * 브라우저가 비정상 상태라 재사용하면 안 될 때 호출합니다. 반납 시 종료됩니다.
+		 */
+		public void invalidate() {
+			broken = true;
+		}
+
+		@Override
+		public void close() {
+			if (!returned) {
+				returned = true;
+				release(pooled, broken);
+			}
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package com.team4.giftidea.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.giftidea.dto.ProductCardDTO;
+import com.team4.giftidea.dto.ProductCardJson;
+import com.team4.giftidea.entity.Product;
+import com.team4.giftidea.service.ProductIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = CatalogControllerTest.Web.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"server.compression.enabled=true",
+		"server.compression.mime-types=application/json",
+		"server.compression.min-response-size=1KB"
+	})
+class CatalogControllerTest {
+
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+
+	@LocalServerPort
+	int port;
+
+	@MockitoBean
+	ProductIndex productIndex;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@BeforeEach
+	void setUp() {
+		List<ProductIndex.Hit> hits = new ArrayList<>();
+		for (long id = 1; id <= 20; id++) {
+			Product product = new Product();
+			product.setId(id);
+			product.setProductId("p" + id);
+			product.setTitle("텀블러 " + id);
+			product.setPrice(10_000 + (int) id);
+			product.setImage("https://image.example.com/" + id + ".jpg");
+			product.setLink("https://link.example.com/products/" + id);
+			product.setMallName("Kream");
+			hits.add(new ProductIndex.Hit(product, ProductCardJson.encode(objectMapper, ProductCardDTO.from(product))));
+		}
+		when(productIndex.browse(anyString(), any(), anyInt()))
+			.thenReturn(Optional.of(new ProductIndex.CatalogPage("텀블러", hits, 1L, "abc123")));
+	}
+
+	@Test
+	void gzipsResponseWithWeakETag() throws IOException, InterruptedException {
+		HttpResponse<byte[]> response = get(HttpRequest.newBuilder(catalogUri()).header("Accept-Encoding", "gzip"));
+
+		assertThat(response.statusCode()).isEqualTo(200);
+		assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+		assertThat(response.headers().firstValue("ETag")).hasValueSatisfying(etag -> assertThat(etag).startsWith("W/\""));
+		try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+			assertThat(objectMapper.readTree(new String(body.readAllBytes(), StandardCharsets.UTF_8))
+				.get("product")).hasSize(20);
+		}
+	}
+
+	@Test
+	void weakETagStillAnswersNotModified() throws IOException, InterruptedException {
+		String etag = get(HttpRequest.newBuilder(catalogUri())).headers().firstValue("ETag").orElseThrow();
+
+		HttpResponse<byte[]> response = get(HttpRequest.newBuilder(catalogUri())
+			.header("Accept-Encoding", "gzip")
+			.header("If-None-Match", etag));
+
+		assertThat(response.statusCode()).isEqualTo(304);
+		assertThat(response.body()).isEmpty();
+	}
+
+	private URI catalogUri() {
+		return URI.create("http://localhost:" + port + "/api/catalog?keyword=%ED%85%80%EB%B8%94%EB%9F%AC");
+	}
+
+	private HttpResponse<byte[]> get(HttpRequest.Builder request) throws IOException, InterruptedException {
+		return httpClient.send(request.GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+	}
+
+	/**
+	 * DB 없이 카탈로그 API와 내장 Tomcat만 띄우는 구성
+	 */
+	@Configuration
+	@ImportAutoConfiguration({ServletWebServerFactoryAutoConfiguration.class, DispatcherServletAutoConfiguration.class,
+		WebMvcAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class, JacksonAutoConfiguration.class})
+	@Import(CatalogController.class)
+	static class Web {
+	}
+}
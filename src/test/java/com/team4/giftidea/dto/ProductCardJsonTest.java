@@ -0,0 +1,40 @@
+package com.team4.giftidea.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductCardJsonTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void fragmentsSerializeLikeCards() throws Exception {
+		List<ProductCardDTO> cards = sampleCards(3);
+		List<ProductCardJson> fragments = cards.stream().map(card -> ProductCardJson.encode(objectMapper, card)).toList();
+
+		String expected = objectMapper.writeValueAsString(new Response(cards, List.of(new ReasonDTO("향수", "좋아함"))));
+		String actual = objectMapper.writeValueAsString(
+			new RecommendationResponseDTO(fragments, List.of(new ReasonDTO("향수", "좋아함"))));
+
+		assertThat(actual).isEqualTo(expected);
+		assertThat(objectMapper.readTree(actual).get("product").get(1).get("title").asText()).isEqualTo("상품 \"1\"");
+	}
+
+	private static List<ProductCardDTO> sampleCards(int count) {
+		List<ProductCardDTO> cards = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			cards.add(new ProductCardDTO("p" + i, "상품 \"" + i + "\"", 10_000 + i,
+				"https://image.example.com/" + i + ".jpg", "https://link.example.com/products/" + i,
+				i % 2 == 0 ? "Coupang" : "Kream", "브랜드" + i, 10_000 + i, 1));
+		}
+		return cards;
+	}
+
+	private record Response(List<ProductCardDTO> product, List<ReasonDTO> reason) {
+	}
+}
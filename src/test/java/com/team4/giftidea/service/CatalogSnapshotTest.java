@@ -0,0 +1,94 @@
+package com.team4.giftidea.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.giftidea.entity.Product;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogSnapshotTest {
+
+	private static final List<String> KEYWORDS = List.of("향수", "무선이어폰", "남성 지갑", "텀블러", "백팩");
+	private static final List<String> MALLS = List.of("Coupang", "Kream");
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void roundTripsCatalog() throws IOException {
+		List<Product> products = catalog(2_000);
+		List<CatalogSnapshot.Link> links = links(products);
+		Path file = directory.resolve("catalog.snapshot");
+
+		CatalogSnapshot.write(file, products, links);
+		CatalogSnapshot snapshot = CatalogSnapshot.read(file);
+
+		assertThat(snapshot.products()).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(products);
+		assertThat(snapshot.links()).containsExactlyElementsOf(links);
+	}
+
+	@Test
+	void isSmallerThanJson() throws IOException {
+		List<Product> products = catalog(20_000);
+		List<CatalogSnapshot.Link> links = links(products);
+		Path file = directory.resolve("catalog.snapshot");
+
+		long bytes = CatalogSnapshot.write(file, products, links);
+		long json = new ObjectMapper().writeValueAsBytes(products).length
+			+ new ObjectMapper().writeValueAsBytes(links).length;
+
+		assertThat(bytes).isLessThan(json / 2);
+	}
+
+	@Test
+	void rejectsForeignFile() throws IOException {
+		Path file = directory.resolve("not-a-snapshot");
+		Files.writeString(file, "hello world, this is not a snapshot");
+
+		assertThatThrownBy(() -> CatalogSnapshot.read(file)).isInstanceOf(IOException.class);
+	}
+
+	private static List<Product> catalog(int size) {
+		Random random = new Random(11);
+		List<Product> products = new ArrayList<>(size);
+		for (long id = 1; id <= size; id++) {
+			Product product = new Product();
+			product.setId(id * 3);
+			product.setProductId("p-" + id);
+			product.setTitle("선물 상품 " + id + " 스페셜 에디션");
+			product.setPrice(1_000 * (1 + random.nextInt(500)));
+			product.setImage("https://image.example.com/products/" + id + ".jpg");
+			product.setMallName(MALLS.get(random.nextInt(MALLS.size())));
+			product.setLink("https://www.example.com/vp/products/" + id + "?itemId=" + (id * 7));
+			product.setBrand(random.nextInt(4) == 0 ? null : "브랜드" + random.nextInt(50));
+			product.setCategory(random.nextBoolean() ? null : "패션잡화");
+			product.setKeyword(KEYWORDS.get(random.nextInt(KEYWORDS.size())));
+			product.setSimhash(random.nextBoolean() ? random.nextLong() : null);
+			if (id > 1 && random.nextInt(10) == 0) {
+				product.setCanonicalId(3L);
+			}
+			products.add(product);
+		}
+		return products;
+	}
+
+	private static List<CatalogSnapshot.Link> links(List<Product> products) {
+		List<CatalogSnapshot.Link> links = new ArrayList<>();
+		for (Product product : products) {
+			links.add(new CatalogSnapshot.Link(product.getId(), product.getKeyword()));
+			if (product.getId() % 4 == 0) {
+				links.add(new CatalogSnapshot.Link(product.getId(), "백팩"));
+			}
+		}
+		return links;
+	}
+}
@@ -0,0 +1,94 @@
+package com.team4.giftidea.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatLineNormalizerTest {
+
+	private static final String TARGET = "민수";
+
+	@Test
+	void pcFormatMatchesLegacyRegex() {
+		ChatLineNormalizer normalizer = new ChatLineNormalizer(ChatLineNormalizer.FORMAT_PC, TARGET);
+		for (String line : sampleLines(ChatLineNormalizer.FORMAT_PC, 5_000)) {
+			assertThat(normalizer.normalize(line)).isEqualTo(legacyFormatLine(line, 1));
+		}
+	}
+
+	@Test
+	void mobileFormatMatchesLegacyRegex() {
+		ChatLineNormalizer normalizer = new ChatLineNormalizer(ChatLineNormalizer.FORMAT_MOBILE, TARGET);
+		for (String line : sampleLines(ChatLineNormalizer.FORMAT_MOBILE, 5_000)) {
+			assertThat(normalizer.normalize(line)).isEqualTo(legacyFormatLine(line, 2));
+		}
+	}
+
+	@Test
+	void targetNameIsMatchedLiterally() {
+		ChatLineNormalizer normalizer = new ChatLineNormalizer(ChatLineNormalizer.FORMAT_MOBILE, "민수(친구)");
+
+		assertThat(normalizer.normalize("민수(친구) : 내일 봐ㅋㅋ")).isEqualTo("내일 봐");
+	}
+
+	@Test
+	void countTokensMatchesLegacySplit() {
+		ChatLineNormalizer normalizer = new ChatLineNormalizer(ChatLineNormalizer.FORMAT_PC, TARGET);
+		for (String line : sampleLines(ChatLineNormalizer.FORMAT_PC, 5_000)) {
+			String normalized = normalizer.normalize(line);
+			assertThat(ChatLineNormalizer.countTokens(normalized)).isEqualTo(legacyCountTokens(normalized));
+		}
+	}
+
+	/**
+	 * 기존 GptController.formatLine 구현
+	 */
+	private static String legacyFormatLine(String line, int formatType) {
+		if (formatType == 1) {
+			return line.replaceAll("\\[.*?\\] \\[.*?\\] ", "")
+				.replaceAll("[ㅎㅋ.]+", "").trim();
+		} else if (formatType == 2) {
+			return line.replaceAll("^" + TARGET + " : ", "")
+				.replaceAll("[ㅎㅋ.]+", "").trim();
+		}
+		return line;
+	}
+
+	/**
+	 * 기존 GptController.countTokens 구현
+	 */
+	private static int legacyCountTokens(String text) {
+		if (text == null || text.isEmpty()) {
+			return 0;
+		}
+		return text.split("\\s+").length;
+	}
+
+	private static List<String> sampleLines(int formatType, int count) {
+		String[] words = {"오늘", "향수", "사고싶다", "ㅋㅋㅋ", "ㅎㅎ", "...", "[사진]", "이어폰", "  ", "\t", "진짜.", "ㅋ", "[링크] [미리보기] "};
+		Random random = new Random(42);
+		List<String> lines = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			StringBuilder sb = new StringBuilder();
+			if (formatType == 1) {
+				sb.append('[').append(TARGET).append("] [오후 ").append(random.nextInt(12) + 1).append(':')
+					.append(random.nextInt(50) + 10).append("] ");
+			} else {
+				sb.append(TARGET).append(" : ");
+			}
+			int wordCount = random.nextInt(12);
+			for (int w = 0; w < wordCount; w++) {
+				sb.append(words[random.nextInt(words.length)]);
+				if (random.nextBoolean()) {
+					sb.append(' ');
+				}
+			}
+			lines.add(sb.toString());
+		}
+		return lines;
+	}
+}
@@ -0,0 +1,60 @@
+package com.team4.giftidea.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatPreprocessServiceTest {
+
+	private final ChatPreprocessService chatPreprocessService = new ChatPreprocessService(new TokenCounter("gpt-4o"));
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void reverseScanMatchesForwardWindow() throws IOException {
+		Path chat = writeChat(60_000, "\r\n");
+
+		String forward = chatPreprocessService.extractRecentChunk(Files.newInputStream(chat), "민수");
+		String reverse = chatPreprocessService.extractRecentChunk(chat, "민수");
+
+		assertThat(reverse).isNotEmpty().isEqualTo(forward);
+	}
+
+	@Test
+	void reverseScanReadsWholeSmallFile() throws IOException {
+		Path chat = writeChat(30, "\n");
+
+		String forward = chatPreprocessService.extractRecentChunk(Files.newInputStream(chat), "민수");
+		String reverse = chatPreprocessService.extractRecentChunk(chat, "민수");
+
+		assertThat(reverse).isEqualTo(forward);
+	}
+
+	private Path writeChat(int lines, String newline) throws IOException {
+		String[] speakers = {"민수", "지영"};
+		String[] words = {"요즘", "향수", "갖고싶다", "ㅋㅋㅋ", "무선이어폰", "고장났어", "😂", "다음주에", "생일이야..."};
+		Random random = new Random(7);
+		StringBuilder sb = new StringBuilder("민수 님과 카카오톡 대화").append(newline)
+			.append("저장한 날짜 : 2025-02-01 12:00:00").append(newline);
+		for (int i = 0; i < lines; i++) {
+			sb.append('[').append(speakers[random.nextInt(2)]).append("] [오후 3:")
+				.append(10 + random.nextInt(50)).append("] ");
+			int wordCount = 1 + random.nextInt(8);
+			for (int w = 0; w < wordCount; w++) {
+				sb.append(words[random.nextInt(words.length)]).append(' ');
+			}
+			sb.append(newline);
+		}
+		Path chat = tempDir.resolve("chat.txt");
+		Files.writeString(chat, sb, StandardCharsets.UTF_8);
+		return chat;
+	}
+}
@@ -0,0 +1,106 @@
+package com.team4.giftidea.service;
+
+import com.team4.giftidea.entity.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CoupangApiServiceTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final HtmlPageFetcher fetcher = new HtmlPageFetcher(meterRegistry, 2, Duration.ofSeconds(2),
+		Duration.ofSeconds(5), "test-agent");
+	private final WebDriver driver = mock(WebDriver.class);
+	private int driversCreated;
+	private final WebDriverPool pool = new WebDriverPool(() -> {
+		driversCreated++;
+		return driver;
+	}, 1, 10, Duration.ofSeconds(1), Duration.ofMinutes(1), meterRegistry);
+
+	@AfterEach
+	void tearDown() throws IOException {
+		pool.shutdown();
+		fetcher.close();
+	}
+
+	@Test
+	void extractsServerRenderedListingWithoutBrowser() throws IOException {
+		try (FixtureServer server = new FixtureServer().serve("/np/search", 200, "coupang-search.html")) {
+			CoupangApiService service = new CoupangApiService(pool, fetcher, true, server.searchUrl("/np/search"));
+
+			List<Product> products = service.searchItems("무선이어폰");
+
+			// 가격이 없는 광고 카드는 건너뜀
+			assertThat(products).extracting(Product::getProductId).containsExactly("7335597976", "6213407001");
+			Product first = products.get(0);
+			assertThat(first.getTitle()).isEqualTo("애플 에어팟 프로 2세대 USB-C");
+			assertThat(first.getPrice()).isEqualTo(329_000);
+			assertThat(first.getImage()).isEqualTo("http://thumbnail6.coupangcdn.com/thumbnails/remote/230x230ex/image/airpods.jpg");
+			assertThat(first.getLink()).endsWith("/vp/products/7335597976?itemId=18868432411&vendorItemId=85997024003");
+			assertThat(first.getMallName()).isEqualTo("Coupang");
+			assertThat(first.getKeyword()).isEqualTo("무선이어폰");
+			assertThat(driversCreated).isZero();
+			assertThat(meterRegistry.counter("crawl.http.fetch", "outcome", "ok").count()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void fallsBackToBrowserWhenListingNeedsJavaScript() throws IOException {
+		try (FixtureServer server = new FixtureServer().serve("/np/search", 200, "coupang-js-shell.html")) {
+			String searchUrl = server.searchUrl("/np/search");
+			browserRenders("coupang-search.html");
+			CoupangApiService service = new CoupangApiService(pool, fetcher, true, searchUrl);
+
+			List<Product> products = service.searchItems("무선이어폰");
+
+			assertThat(products).hasSize(2);
+			assertThat(driversCreated).isEqualTo(1);
+			verify(driver).get(String.format(searchUrl, "%EB%AC%B4%EC%84%A0%EC%9D%B4%EC%96%B4%ED%8F%B0"));
+			assertThat(meterRegistry.counter("crawl.http.fetch", "outcome", "needs-js").count()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void fallsBackToBrowserWhenBlocked() throws IOException {
+		try (FixtureServer server = new FixtureServer().serve("/np/search", 403, null)) {
+			browserRenders("coupang-search.html");
+			CoupangApiService service = new CoupangApiService(pool, fetcher, true, server.searchUrl("/np/search"));
+
+			assertThat(service.searchItems("무선이어폰")).hasSize(2);
+			assertThat(server.hits("/np/search")).isEqualTo(1);
+			assertThat(meterRegistry.counter("crawl.http.fetch", "outcome", "blocked").count()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void browserOnlyModeSkipsHttpFetch() throws IOException {
+		try (FixtureServer server = new FixtureServer().serve("/np/search", 200, "coupang-search.html")) {
+			browserRenders("coupang-search.html");
+			CoupangApiService service = new CoupangApiService(pool, fetcher, false, server.searchUrl("/np/search"));
+
+			assertThat(service.searchItems("무선이어폰")).hasSize(2);
+			assertThat(server.hits("/np/search")).isZero();
+			assertThat(driversCreated).isEqualTo(1);
+		}
+	}
+
+	/**
+	 * 브라우저가 상품 목록을 그린 뒤의 페이지 HTML을 돌려주도록 설정
+	 */
+	private void browserRenders(String fixture) {
+		when(driver.findElement(any())).thenReturn(mock(WebElement.class));
+		when(driver.getPageSource()).thenReturn(FixtureServer.fixture(fixture));
+	}
+}
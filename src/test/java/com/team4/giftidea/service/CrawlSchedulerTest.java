@@ -0,0 +1,134 @@
+package com.team4.giftidea.service;
+
+import com.team4.giftidea.entity.CrawlRun;
+import com.team4.giftidea.entity.Product;
+import com.team4.giftidea.repository.CrawlRunRepository;
+import com.team4.giftidea.repository.ProductBulkRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CrawlSchedulerTest {
+
+	private static final long CRAWL_MILLIS = 100;
+
+	@Test
+	void crawlsMallsConcurrentlyWithinPerMallLimits() {
+		ConcurrencyProbe coupang = new ConcurrencyProbe();
+		ConcurrencyProbe kream = new ConcurrencyProbe();
+		ProductService productService = mock(ProductService.class);
+		CrawlScheduler scheduler = new CrawlScheduler(Map.of(
+			"coupang", new CrawlScheduler.MallCrawler(coupang, 2, 0),
+			"kream", new CrawlScheduler.MallCrawler(kream, 1, 0)), productService, new SimpleMeterRegistry());
+
+		CrawlScheduler.CrawlReport report = scheduler.crawl(Map.of(
+			"coupang", List.of("c1", "c2", "c3", "c4"),
+			"kream", List.of("k1", "k2")));
+
+		// 순차 실행이면 6 * 100ms, 판매처별 동시 실행이면 약 2 * 100ms
+		assertThat(report.totalMillis()).isLessThan(5 * CRAWL_MILLIS);
+		assertThat(coupang.max.get()).isEqualTo(2);
+		assertThat(kream.max.get()).isEqualTo(1);
+		assertThat(report.keywords()).extracting(CrawlScheduler.KeywordTiming::keyword)
+			.containsExactlyInAnyOrder("c1", "c2", "c3", "c4", "k1", "k2");
+		assertThat(report.keywords()).allSatisfy(timing -> {
+			assertThat(timing.products()).isEqualTo(1);
+			assertThat(timing.crawlMillis()).isGreaterThanOrEqualTo(CRAWL_MILLIS - 10);
+		});
+		verify(productService, times(6)).upsertItems(anyList(), anyString());
+	}
+
+	@Test
+	void spacesRequestsByRateLimit() {
+		ConcurrencyProbe coupang = new ConcurrencyProbe();
+		CrawlScheduler scheduler = new CrawlScheduler(Map.of(
+			"coupang", new CrawlScheduler.MallCrawler(coupang, 3, 600)), mock(ProductService.class),
+			new SimpleMeterRegistry());
+
+		// 분당 600회 = 100ms 간격, 동시 실행 3이어도 세 번째 키워드는 200ms 이후 시작
+		CrawlScheduler.CrawlReport report = scheduler.crawl(Map.of("coupang", List.of("a", "b", "c")));
+
+		assertThat(report.keywords()).extracting(CrawlScheduler.KeywordTiming::waitMillis)
+			.anySatisfy(wait -> assertThat(wait).isGreaterThanOrEqualTo(190));
+	}
+
+	@Test
+	void recordsFailureAndContinues() {
+		Function<String, List<Product>> failing = keyword -> {
+			if (keyword.equals("bad")) {
+				throw new IllegalStateException("blocked");
+			}
+			return List.of(new Product());
+		};
+		CrawlScheduler scheduler = new CrawlScheduler(Map.of(
+			"kream", new CrawlScheduler.MallCrawler(failing, 1, 0)), mock(ProductService.class),
+			new SimpleMeterRegistry());
+
+		CrawlScheduler.CrawlReport report = scheduler.crawl(Map.of("kream", List.of("good", "bad", "also good")));
+
+		assertThat(report.failures()).isEqualTo(1);
+		assertThat(report.keywords()).filteredOn(timing -> timing.error() != null)
+			.extracting(CrawlScheduler.KeywordTiming::keyword).containsExactly("bad");
+	}
+
+	@Test
+	void emptyResultMakesRunIncompleteSoCatalogIsNotExpired() {
+		// 크롤러는 차단되면 예외 대신 빈 목록을 반환함
+		Function<String, List<Product>> blocked = keyword -> keyword.equals("향수") ? List.of() : List.of(new Product());
+		ProductService productService = mock(ProductService.class);
+		CrawlScheduler scheduler = new CrawlScheduler(Map.of(
+			"kream", new CrawlScheduler.MallCrawler(blocked, 1, 0)), productService, new SimpleMeterRegistry());
+		CrawlRunRepository crawlRunRepository = mock(CrawlRunRepository.class);
+		ProductBulkRepository productBulkRepository = mock(ProductBulkRepository.class);
+		StaleProductSweeper sweeper = new StaleProductSweeper(crawlRunRepository, productBulkRepository,
+			mock(ProductDeduplicator.class), true, 1);
+
+		CrawlScheduler.CrawlReport report = scheduler.crawl(Map.of("kream", List.of("텀블러", "향수")));
+		sweeper.afterCrawl(report);
+
+		assertThat(report.failures()).isEqualTo(1);
+		assertThat(report.keywords()).filteredOn(timing -> timing.error() != null)
+			.extracting(CrawlScheduler.KeywordTiming::keyword).containsExactly("향수");
+		verify(productService, times(1)).upsertItems(anyList(), anyString());
+		ArgumentCaptor<CrawlRun> saved = ArgumentCaptor.forClass(CrawlRun.class);
+		verify(crawlRunRepository).save(saved.capture());
+		assertThat(saved.getValue().isComplete()).isFalse();
+		verify(productBulkRepository, never()).expireUnseenSince(any(), any());
+	}
+
+	/**
+	 * 동시에 실행된 최대 크롤링 수를 기록하는 가짜 크롤러
+	 */
+	private static final class ConcurrencyProbe implements Function<String, List<Product>> {
+
+		private final AtomicInteger current = new AtomicInteger();
+		private final AtomicInteger max = new AtomicInteger();
+
+		@Override
+		public List<Product> apply(String keyword) {
+			max.accumulateAndGet(current.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(CRAWL_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				current.decrementAndGet();
+			}
+			return List.of(new Product());
+		}
+	}
+}
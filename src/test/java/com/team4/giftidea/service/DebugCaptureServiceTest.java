@@ -0,0 +1,102 @@
+package com.team4.giftidea.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DebugCaptureServiceTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void capturesRoughlySampleRateOfRequests() {
+		DebugCaptureService service = service(0.25, 10, DataSize.ofMegabytes(1), 10_000);
+
+		for (int i = 0; i < 4_000; i++) {
+			service.capture("청크 " + i);
+		}
+
+		assertThat(service.pendingCount()).isBetween(800, 1_200);
+		assertThat(service.droppedCount()).isZero();
+	}
+
+	@Test
+	void disabledOrZeroRateCapturesNothing() {
+		DebugCaptureService disabled = new DebugCaptureService(false, 1.0, dir.toString(), 10,
+			DataSize.ofMegabytes(1), 10, false);
+		DebugCaptureService zeroRate = service(0.0, 10, DataSize.ofMegabytes(1), 10);
+
+		disabled.capture("청크");
+		zeroRate.capture("청크");
+
+		assertThat(disabled.pendingCount()).isZero();
+		assertThat(zeroRate.pendingCount()).isZero();
+	}
+
+	@Test
+	void dropsWhenQueueIsFull() {
+		DebugCaptureService service = service(1.0, 10, DataSize.ofMegabytes(1), 2);
+
+		for (int i = 0; i < 5; i++) {
+			service.capture("청크 " + i);
+		}
+
+		assertThat(service.pendingCount()).isEqualTo(2);
+		assertThat(service.droppedCount()).isEqualTo(3);
+	}
+
+	@Test
+	void rotatesOldestFilesBeyondMaxFiles() throws IOException {
+		DebugCaptureService service = service(1.0, 3, DataSize.ofMegabytes(1), 10);
+		for (int i = 0; i < 5; i++) {
+			service.capture("청크 " + i);
+		}
+		service.flush();
+
+		assertThat(contents()).containsExactlyInAnyOrder("청크 2", "청크 3", "청크 4");
+
+		// 재시작 후에도 기존 파일을 포함하여 최대 수를 유지
+		DebugCaptureService restarted = service(1.0, 3, DataSize.ofMegabytes(1), 10);
+		restarted.capture("청크 5");
+		restarted.flush();
+
+		assertThat(contents()).hasSize(3).contains("청크 5");
+	}
+
+	@Test
+	void truncatesAtUtf8CharacterBoundary() throws IOException {
+		DebugCaptureService service = service(1.0, 3, DataSize.ofBytes(7), 10);
+
+		service.capture("가나다라");
+		service.flush();
+
+		// 한글 한 글자는 3바이트이므로 7바이트 제한에서는 두 글자만 남음
+		assertThat(contents()).containsExactly("가나");
+	}
+
+	private DebugCaptureService service(double sampleRate, int maxFiles, DataSize maxFileSize, int queueCapacity) {
+		return new DebugCaptureService(true, sampleRate, dir.toString(), maxFiles, maxFileSize, queueCapacity, false);
+	}
+
+	private List<String> contents() throws IOException {
+		try (Stream<Path> files = Files.list(dir)) {
+			return files.map(file -> {
+				try {
+					return Files.readString(file, StandardCharsets.UTF_8);
+				} catch (IOException e) {
+					throw new IllegalStateException(e);
+				}
+			}).toList();
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.team4.giftidea.service;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 저장해 둔 검색 결과 HTML(src/test/resources/crawl)을 돌려주는 로컬 HTTP 서버 (크롤러 오프라인 테스트용)
+ */
+final class FixtureServer implements AutoCloseable {
+
+	private final HttpServer server;
+	private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+
+	FixtureServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.start();
+	}
+
+	/**
+	 * 경로에 fixture 파일을 응답하도록 등록합니다.
+	 */
+	FixtureServer serve(String path, int status, String fixture) {
+		byte[] body = fixture == null ? new byte[0] : read(fixture);
+		server.createContext(path, exchange -> {
+			hits.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+			exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+			exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		return this;
+	}
+
+	/**
+	 * @return 검색 URL 형식 (%s에 키워드)
+	 */
+	String searchUrl(String path) {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + path + "?q=%s";
+	}
+
+	int hits(String path) {
+		return hits.getOrDefault(path, new AtomicInteger()).get();
+	}
+
+	static String fixture(String name) {
+		return new String(read(name), StandardCharsets.UTF_8);
+	}
+
+	private static byte[] read(String name) {
+		try (InputStream in = FixtureServer.class.getResourceAsStream("/crawl/" + name)) {
+			return Objects.requireNonNull(in, name).readAllBytes();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+}
@@ -0,0 +1,93 @@
+package com.team4.giftidea.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.giftidea.configuration.GptConfig;
+import com.team4.giftidea.dto.GptRequestDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class GptCircuitBreakerTest {
+
+	// 모든 호출이 네트워크 오류로 실패하는 RestTemplate
+	private final RestTemplate restTemplate = mock(RestTemplate.class, invocation -> {
+		throw new ResourceAccessException("connection reset");
+	});
+	private final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+
+	@AfterEach
+	void tearDown() {
+		connectionManager.close();
+	}
+
+	@Test
+	void halfOpenAllowsOneTrialUntilReleased() {
+		GptCircuitBreaker breaker = new GptCircuitBreaker(1, Duration.ZERO);
+		breaker.recordFailure();
+
+		assertThat(breaker.tryAcquire()).isTrue();
+		assertThat(breaker.getState()).isEqualTo(GptCircuitBreaker.State.HALF_OPEN);
+		assertThat(breaker.tryAcquire()).isFalse();
+
+		breaker.releaseTrial();
+
+		assertThat(breaker.getState()).isEqualTo(GptCircuitBreaker.State.HALF_OPEN);
+		assertThat(breaker.tryAcquire()).isTrue();
+	}
+
+	@Test
+	void cancelledStreamReleasesHalfOpenTrial() {
+		GptClient gptClient = halfOpenClient();
+		// 응답이 오지 않는 스트림 (클라이언트가 먼저 연결을 끊는 상황)
+		WebClient webClient = WebClient.builder().exchangeFunction(request -> Mono.never()).build();
+		GptService gptService = new GptService(gptClient, webClient, new ObjectMapper(), mock(GptConfig.class),
+			1, 0, Duration.ofSeconds(30));
+
+		Disposable subscription = gptService.streamText("prompt").subscribe();
+		assertThat(gptClient.tryAcquire()).isFalse();
+
+		subscription.dispose();
+
+		assertThat(gptClient.tryAcquire()).isTrue();
+		gptService.shutdown();
+	}
+
+	@Test
+	void interruptedRetryReleasesHalfOpenTrial() {
+		GptClient gptClient = halfOpenClient();
+
+		Thread.currentThread().interrupt();
+		try {
+			assertThatThrownBy(() -> gptClient.complete(new GptRequestDTO("gpt-4o", "prompt", 10)))
+				.isInstanceOf(ResourceAccessException.class)
+				.hasMessageContaining("인터럽트");
+		} finally {
+			Thread.interrupted();
+		}
+
+		assertThat(gptClient.tryAcquire()).isTrue();
+	}
+
+	/**
+	 * 실패 한 번으로 열리고 바로 HALF_OPEN으로 넘어가는 클라이언트
+	 */
+	private GptClient halfOpenClient() {
+		GptClient gptClient = new GptClient(restTemplate, mock(GptConfig.class), connectionManager,
+			new SimpleMeterRegistry(), 3, Duration.ofMillis(100), Duration.ofMillis(100), 1, Duration.ZERO,
+			false, Duration.ofSeconds(5));
+		gptClient.recordResult(false);
+		return gptClient;
+	}
+}
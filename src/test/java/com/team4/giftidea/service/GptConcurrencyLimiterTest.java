@@ -0,0 +1,57 @@
+package com.team4.giftidea.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GptConcurrencyLimiterTest {
+
+	@Test
+	void queuesBeyondMaxConcurrentAndRejectsBeyondQueue() {
+		GptConcurrencyLimiter limiter = new GptConcurrencyLimiter(1, 1);
+
+		CompletableFuture<GptConcurrencyLimiter.Permit> first = limiter.acquire();
+		CompletableFuture<GptConcurrencyLimiter.Permit> second = limiter.acquire();
+		CompletableFuture<GptConcurrencyLimiter.Permit> third = limiter.acquire();
+
+		assertThat(first).isCompleted();
+		assertThat(second).isNotDone();
+		assertThatThrownBy(third::join).hasCauseInstanceOf(RejectedExecutionException.class);
+
+		first.join().release();
+		assertThat(second).isCompleted();
+		assertThat(limiter.available()).isZero();
+
+		second.join().release();
+		assertThat(limiter.available()).isEqualTo(1);
+	}
+
+	@Test
+	void cancelledWaiterLeavesQueueAndIsSkipped() {
+		GptConcurrencyLimiter limiter = new GptConcurrencyLimiter(1, 2);
+		GptConcurrencyLimiter.Permit running = limiter.acquire().join();
+		CompletableFuture<GptConcurrencyLimiter.Permit> cancelled = limiter.acquire();
+		CompletableFuture<GptConcurrencyLimiter.Permit> next = limiter.acquire();
+
+		cancelled.cancel(false);
+		assertThat(limiter.waiting()).isEqualTo(1);
+
+		running.release();
+		assertThat(next).isCompleted();
+	}
+
+	@Test
+	void releasingTwiceReturnsOnePermit() {
+		GptConcurrencyLimiter limiter = new GptConcurrencyLimiter(2, 0);
+		GptConcurrencyLimiter.Permit permit = limiter.acquire().join();
+
+		permit.release();
+		permit.release();
+
+		assertThat(limiter.available()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,66 @@
+package com.team4.giftidea.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GptResponseCacheTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void keyChangesWithPromptTemplate() {
+		GptResponseCache cache = cache(10);
+		PromptTemplate before = PromptTemplate.compile("선물 추천: {theme}\n{message}");
+		PromptTemplate after = PromptTemplate.compile("선물 3개 추천: {theme}\n{message}");
+
+		String key = cache.keyOf(before.render("birthday", "향수 갖고 싶다"), "gpt-4o");
+
+		assertThat(cache.keyOf(before.render("birthday", "향수 갖고 싶다"), "gpt-4o")).isEqualTo(key);
+		assertThat(cache.keyOf(after.render("birthday", "향수 갖고 싶다"), "gpt-4o")).isNotEqualTo(key);
+		assertThat(cache.keyOf(before.render("birthday", "향수 갖고 싶다"), "gpt-4o-mini")).isNotEqualTo(key);
+	}
+
+	@Test
+	void persistentTierKeepsNewestFilesWithinLimit() throws IOException {
+		GptResponseCache cache = cache(10);
+		for (int i = 0; i < 10; i++) {
+			cache.put("key-" + i, "Categories: 향수\n- 향수: " + i);
+			Files.setLastModifiedTime(dir.resolve("key-" + i + ".txt"), FileTime.fromMillis(1_000_000L * (i + 1)));
+		}
+		assertThat(files()).isEqualTo(10);
+
+		cache.put("key-10", "Categories: 향수\n- 향수: 10");
+
+		// 최대 수를 넘으면 90%까지 오래된 파일부터 삭제
+		assertThat(files()).isEqualTo(9);
+		assertThat(dir.resolve("key-0.txt")).doesNotExist();
+		assertThat(dir.resolve("key-10.txt")).exists();
+
+		// 재시작 후에도 남은 파일은 조회 가능
+		GptResponseCache restarted = cache(10);
+		assertThat(restarted.get("key-10")).contains("Categories: 향수\n- 향수: 10");
+		assertThat(restarted.get("key-1")).isEmpty();
+	}
+
+	private GptResponseCache cache(int maxPersistentEntries) {
+		return new GptResponseCache(true, 100, Duration.ofHours(1), dir.toString(), maxPersistentEntries,
+			new SimpleMeterRegistry());
+	}
+
+	private long files() throws IOException {
+		try (Stream<Path> files = Files.list(dir)) {
+			return files.filter(file -> file.toString().endsWith(".txt")).count();
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package com.team4.giftidea.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.giftidea.configuration.GptConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GptServiceTest {
+
+	private final GptClient gptClient = mock(GptClient.class);
+	private final CountDownLatch interrupted = new CountDownLatch(1);
+	private GptService gptService;
+
+	@AfterEach
+	void tearDown() {
+		gptService.shutdown();
+	}
+
+	@Test
+	void timeoutCancelsCallAndMapsToGatewayTimeout() throws InterruptedException {
+		blockUntilInterrupted();
+		gptService = service(1, 1, Duration.ofMillis(100));
+
+		CompletableFuture<String> result = gptService.generateTextAsync("prompt");
+
+		assertThatThrownBy(result::join)
+			.isInstanceOf(CompletionException.class)
+			.cause()
+			.isInstanceOfSatisfying(ResponseStatusException.class,
+				e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT));
+		// 제한 시간이 지나면 실행 중인 GPT 호출을 인터럽트하여 스레드를 돌려받음
+		assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void fullQueueFailsFastWithServiceUnavailable() {
+		blockUntilInterrupted();
+		gptService = service(1, 1, Duration.ofSeconds(30));
+
+		gptService.generateTextAsync("running");
+		gptService.generateTextAsync("queued");
+		CompletableFuture<String> rejected = gptService.generateTextAsync("rejected");
+
+		assertThatThrownBy(rejected::join)
+			.cause()
+			.isInstanceOfSatisfying(ResponseStatusException.class,
+				e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+	}
+
+	@Test
+	void openBreakerAndExhaustedRetriesSurfaceAsServiceUnavailable() {
+		gptService = service(1, 1, Duration.ofSeconds(30));
+		when(gptClient.complete(any()))
+			.thenThrow(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "GPT 호출이 일시적으로 차단되었습니다."))
+			.thenThrow(new ResourceAccessException("connection reset"));
+
+		for (int i = 0; i < 2; i++) {
+			assertThatThrownBy(() -> gptService.generateTextAsync("prompt").join())
+				.cause()
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+					e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+		}
+	}
+
+	@Test
+	void streamingSharesLimitWithBlockingCalls() {
+		blockUntilInterrupted();
+		gptService = service(1, 0, Duration.ofSeconds(30));
+
+		gptService.generateTextAsync("running");
+
+		assertThatThrownBy(() -> gptService.streamText("stream").blockLast(Duration.ofSeconds(5)))
+			.isInstanceOfSatisfying(ResponseStatusException.class,
+				e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+	}
+
+	private void blockUntilInterrupted() {
+		when(gptClient.complete(any())).thenAnswer(invocation -> {
+			try {
+				Thread.sleep(30_000);
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+				throw new ResourceAccessException("interrupted");
+			}
+			return null;
+		});
+	}
+
+	private GptService service(int maxConcurrent, int queueCapacity, Duration timeout) {
+		return new GptService(gptClient, WebClient.create(), new ObjectMapper(), mock(GptConfig.class),
+			maxConcurrent, queueCapacity, timeout);
+	}
+}
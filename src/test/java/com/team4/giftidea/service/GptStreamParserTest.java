@@ -0,0 +1,68 @@
+package com.team4.giftidea.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GptStreamParserTest {
+
+	private static final String RESPONSE = """
+		1. [향수, 무선이어폰, 목걸이]
+		2.
+		   - 향수: 향수가 다 떨어졌다고 함
+		   - 무선이어폰: 이어폰이 고장났다고 함
+		   - 목걸이: 목걸이를 보고 예쁘다고 함""";
+
+	private final List<List<String>> categories = new ArrayList<>();
+	private final List<String> reasons = new ArrayList<>();
+	private final GptStreamParser parser = new GptStreamParser(
+		categories::add, (keyword, reason) -> reasons.add(keyword + "=" + reason));
+
+	@Test
+	void emitsCategoriesAsSoonAsClosingBracketArrives() {
+		parser.accept("1. [향수, 무선");
+		assertThat(categories).isEmpty();
+
+		parser.accept("이어폰, 목걸이]");
+		assertThat(categories).containsExactly(List.of("향수", "무선이어폰", "목걸이"));
+	}
+
+	@Test
+	void handlesResponseSplitIntoSingleCharacters() {
+		for (int i = 0; i < RESPONSE.length(); i++) {
+			parser.accept(String.valueOf(RESPONSE.charAt(i)));
+		}
+		String content = parser.finish();
+
+		assertThat(content).isEqualTo(RESPONSE);
+		assertThat(categories).containsExactly(List.of("향수", "무선이어폰", "목걸이"));
+		assertThat(reasons).containsExactly(
+			"향수=향수가 다 떨어졌다고 함", "무선이어폰=이어폰이 고장났다고 함", "목걸이=목걸이를 보고 예쁘다고 함");
+	}
+
+	@Test
+	void reasonsBeforeCategoriesAreEmittedAfterCategories() {
+		parser.accept("- 향수: 향수가 다 떨어졌다고 함\n");
+		assertThat(reasons).isEmpty();
+
+		parser.accept("1. [향수, 목걸이]\n- 목걸이: 예쁘다고 함\n");
+		parser.finish();
+
+		assertThat(categories).containsExactly(List.of("향수", "목걸이"));
+		assertThat(reasons).containsExactly("향수=향수가 다 떨어졌다고 함", "목걸이=예쁘다고 함");
+	}
+
+	@Test
+	void missingCategoriesLineEmitsEmptyCategoriesOnFinish() {
+		parser.accept("죄송합니다. 추천할 수 없습니다.\n- 향수: 대화에 언급됨");
+		assertThat(categories).isEmpty();
+
+		parser.finish();
+
+		assertThat(categories).containsExactly(List.of());
+		assertThat(reasons).containsExactly("향수=대화에 언급됨");
+	}
+}
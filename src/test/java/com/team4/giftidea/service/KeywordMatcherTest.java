@@ -0,0 +1,161 @@
+package com.team4.giftidea.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordMatcherTest {
+
+	/** ProductController의 크롤링 키워드 */
+	private static final List<String> STORED_KEYWORDS = List.of(
+		"안마기기", "무선이어폰", "스마트워치", "등산용품", "스마트폰", "맨투맨", "마우스",
+		"키보드", "게임기", "전기면도기", "현금 박스", "아버지 신발", "어머니 신발", "건강식품", "헬스가방", "핸드크림", "디퓨저",
+		"오설록 티세트", "휴지", "초콜릿", "수제 초콜릿 키트", "파자마세트", "남자 화장품", "에어랩",
+		"무드등", "수건", "전기포트", "에어프라이기", "비타민", "입욕제", "블루투스 스피커", "와인",
+		"남성 지갑", "남성 스니커즈", "백팩", "토트백", "크로스백", "벨트",
+		"선글라스", "향수", "여성 지갑", "여성 스니커즈", "숄더백", "목걸이",
+		"텀블러", "립밤", "립스틱", "조명", "핸드워시", "식기", "머플러", "시계", "스카프", "핸드백");
+
+	/** 띄어쓰기·동의어 표로 맞추도록 만든 표현 → 기대하는 저장 키워드 (회귀 확인용, 재현율 측정에는 사용하지 않음) */
+	private static final Map<String, String> KNOWN_VARIANTS = Map.ofEntries(
+		Map.entry("무선 이어폰", "무선이어폰"),
+		Map.entry("블루투스 이어폰", "무선이어폰"),
+		Map.entry("남자 지갑", "남성 지갑"),
+		Map.entry("여자 지갑", "여성 지갑"),
+		Map.entry("남자 운동화", "남성 스니커즈"),
+		Map.entry("여성 운동화", "여성 스니커즈"),
+		Map.entry("스마트 워치", "스마트워치"),
+		Map.entry("블루투스스피커", "블루투스 스피커"),
+		Map.entry("안마기", "안마기기"),
+		Map.entry("마사지기", "안마기기"),
+		Map.entry("향수 세트", "향수"),
+		Map.entry("립 밤", "립밤"),
+		Map.entry("텀블러 세트", "텀블러"),
+		Map.entry("수제초콜릿", "수제 초콜릿 키트"),
+		Map.entry("와인 세트", "와인"),
+		Map.entry("에어 프라이어", "에어프라이기"),
+		Map.entry("전기 주전자", "전기포트"),
+		Map.entry("잠옷 세트", "파자마세트"),
+		Map.entry("헬스 가방", "헬스가방"),
+		Map.entry("남성 화장품", "남자 화장품"),
+		Map.entry("가죽 벨트", "벨트"),
+		Map.entry("손목시계", "시계"),
+		Map.entry("등산 용품", "등산용품"),
+		Map.entry("비타민C", "비타민"),
+		Map.entry("배스밤", "입욕제"),
+		Map.entry("핸드 크림", "핸드크림"),
+		Map.entry("게임 콘솔", "게임기"),
+		Map.entry("현금박스", "현금 박스"),
+		Map.entry("건강 식품", "건강식품"),
+		Map.entry("맨투맨 티셔츠", "맨투맨"),
+		Map.entry("토트 백", "토트백"),
+		Map.entry("크로스 백", "크로스백"),
+		Map.entry("핸드 워시", "핸드워시"),
+		Map.entry("무드 등", "무드등"),
+		Map.entry("전기 면도기", "전기면도기"),
+		Map.entry("차 세트", "오설록 티세트"),
+		Map.entry("선글라스 케이스", "선글라스"),
+		Map.entry("실크 스카프", "스카프"),
+		Map.entry("캐시미어 머플러", "머플러"),
+		Map.entry("무선 마우스", "마우스"));
+
+	/**
+	 * 동의어 표와 겹치지 않는 GPT 카테고리 예시 → 기대하는 저장 키워드 (재현율 측정용)
+	 * 매처를 조정할 때 이 표현을 동의어 표에 추가하지 말고, 새 표현을 이 목록에 계속 추가합니다.
+	 */
+	private static final Map<String, String> HELD_OUT = Map.ofEntries(
+		Map.entry("노이즈캔슬링 이어폰", "무선이어폰"),
+		Map.entry("남성용 가죽 지갑", "남성 지갑"),
+		Map.entry("여성용 반지갑", "여성 지갑"),
+		Map.entry("남자 스니커즈", "남성 스니커즈"),
+		Map.entry("목 마사지기", "안마기기"),
+		Map.entry("전동 안마기", "안마기기"),
+		Map.entry("니치 향수", "향수"),
+		Map.entry("보습 립밤", "립밤"),
+		Map.entry("보온 텀블러", "텀블러"),
+		Map.entry("수제 초콜릿", "수제 초콜릿 키트"),
+		Map.entry("초콜릿 선물세트", "초콜릿"),
+		Map.entry("레드 와인", "와인"),
+		Map.entry("전기 커피포트", "전기포트"),
+		Map.entry("커플 잠옷", "파자마세트"),
+		Map.entry("헬스용 가방", "헬스가방"),
+		Map.entry("남성 올인원 화장품", "남자 화장품"),
+		Map.entry("가죽벨트", "벨트"),
+		Map.entry("종합비타민", "비타민"),
+		Map.entry("휴대용 게임기", "게임기"),
+		Map.entry("홍삼 건강식품", "건강식품"),
+		Map.entry("오버핏 맨투맨", "맨투맨"),
+		Map.entry("캔버스 토트백", "토트백"),
+		Map.entry("폼 핸드워시", "핸드워시"),
+		Map.entry("LED 무드등", "무드등"),
+		Map.entry("호텔 수건", "수건"),
+		Map.entry("녹차 티세트", "오설록 티세트"),
+		Map.entry("편광 선글라스", "선글라스"),
+		Map.entry("울 머플러", "머플러"),
+		Map.entry("블루투스 마우스", "마우스"),
+		Map.entry("기계식 키보드", "키보드"),
+		Map.entry("다이슨 에어랩", "에어랩"),
+		Map.entry("캔들 디퓨저", "디퓨저"),
+		Map.entry("휴대용 블루투스 스피커", "블루투스 스피커"),
+		Map.entry("진주 목걸이", "목걸이"),
+		Map.entry("노트북 백팩", "백팩"),
+		Map.entry("입욕 소금", "입욕제"),
+		Map.entry("여자 러닝화", "여성 스니커즈"),
+		Map.entry("무선 블루투스 헤드셋", "무선이어폰"),
+		Map.entry("스마트 밴드", "스마트워치"),
+		Map.entry("전기 면도기 세트", "전기면도기"));
+
+	/** 저장 키워드와 관계없는 카테고리 */
+	private static final List<String> UNRELATED = List.of("꽃다발", "캠핑 의자", "케이크", "반지", "운동복", "전자책 리더기");
+
+	private final KeywordMatcher matcher = new KeywordMatcher(STORED_KEYWORDS);
+
+	@Test
+	void exactAfterNormalization() {
+		assertThat(matcher.match("무선 이어폰", 3)).containsExactly("무선이어폰");
+		assertThat(matcher.match("남자 지갑", 3)).containsExactly("남성 지갑");
+		assertThat(matcher.match("향수", 3)).containsExactly("향수");
+	}
+
+	@Test
+	void unrelatedCategoryMatchesNothing() {
+		assertThat(matcher.match("  ", 3)).isEmpty();
+		for (String category : UNRELATED) {
+			assertThat(matcher.match(category, 2)).as(category).isEmpty();
+		}
+	}
+
+	@Test
+	void knownVariantsResolve() {
+		KNOWN_VARIANTS.forEach((category, expected) ->
+			assertThat(matcher.match(category, 1)).as(category).containsExactly(expected));
+	}
+
+	@Test
+	void heldOutRecall() {
+		List<String> misses = new ArrayList<>();
+		HELD_OUT.forEach((category, expected) -> {
+			if (!matcher.match(category, 1).contains(expected)) {
+				misses.add(category);
+			}
+		});
+
+		// 현재 40개 중 33개 (노이즈캔슬링 이어폰, 커플 잠옷, 녹차 티세트, 입욕 소금, 여자 러닝화, 헤드셋, 스마트 밴드를 놓침)
+		double recall = 1.0 - (double) misses.size() / HELD_OUT.size();
+		assertThat(recall).as("놓친 표현: %s", misses).isGreaterThanOrEqualTo(0.8);
+	}
+
+	@Test
+	void secondCandidateAddsNoHeldOutRecall() {
+		// ProductService가 카테고리당 키워드 하나만 검색하는 근거: 두 번째 후보는 재현율을 올리지 않음
+		HELD_OUT.forEach((category, expected) -> {
+			if (matcher.match(category, 2).contains(expected)) {
+				assertThat(matcher.match(category, 1)).as(category).containsExactly(expected);
+			}
+		});
+	}
+}
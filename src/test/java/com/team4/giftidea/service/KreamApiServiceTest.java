@@ -0,0 +1,44 @@
+package com.team4.giftidea.service;
+
+import com.team4.giftidea.entity.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class KreamApiServiceTest {
+
+	private final HtmlPageFetcher fetcher = new HtmlPageFetcher(new SimpleMeterRegistry(), 2, Duration.ofSeconds(2),
+		Duration.ofSeconds(5), "test-agent");
+
+	@AfterEach
+	void tearDown() throws IOException {
+		fetcher.close();
+	}
+
+	@Test
+	void extractsProductCardsWithoutBrowser() throws IOException {
+		WebDriverPool pool = mock(WebDriverPool.class);
+		try (FixtureServer server = new FixtureServer().serve("/search", 200, "kream-search.html")) {
+			KreamApiService service = new KreamApiService(pool, fetcher, true, server.searchUrl("/search"));
+
+			List<Product> products = service.searchItems("스니커즈");
+
+			assertThat(products).extracting(Product::getProductId).containsExactly("430299", "28012");
+			assertThat(products).extracting(Product::getPrice).containsExactly(139_000, 159_000);
+			Product first = products.get(0);
+			assertThat(first.getTitle()).isEqualTo("Nike Air Force 1 '07 Low White");
+			assertThat(first.getImage()).isEqualTo("https://kream-phinf.pstatic.net/MjAyMzA/a_air_force.png");
+			assertThat(first.getLink()).endsWith("/products/430299?size=");
+			assertThat(first.getMallName()).isEqualTo("Kream");
+			verifyNoInteractions(pool);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.team4.giftidea.service;
+
+import com.team4.giftidea.entity.Product;
+import com.team4.giftidea.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductDeduplicatorTest {
+
+	@Test
+	void titleVariantsAreNearDuplicates() {
+		long base = ProductDeduplicator.simhash("나이키 에어포스 1 07 화이트 CW2288-111");
+
+		for (String variant : List.of(
+			"[무료배송] 나이키 에어포스 1 07 화이트 CW2288-111",
+			"나이키 에어포스1 07 화이트 CW2288-111 (정품)",
+			"NIKE 나이키 에어포스 1 '07 화이트 CW2288-111",
+			"나이키 에어포스 1 07 화이트 CW2288-111 남성 운동화")) {
+			assertThat(Long.bitCount(base ^ ProductDeduplicator.simhash(variant)))
+				.as(variant)
+				.isLessThanOrEqualTo(ProductDeduplicator.MAX_DISTANCE);
+		}
+	}
+
+	@Test
+	void differentProductsAreNotDuplicates() {
+		long base = ProductDeduplicator.simhash("나이키 에어포스 1 07 화이트 CW2288-111");
+
+		for (String other : List.of(
+			"아디다스 삼바 OG 블랙 B75807",
+			"나이키 에어포스 1 07 블랙 CW2288-001",
+			"애플 에어팟 프로 2세대 USB-C",
+			"조말론 잉글리쉬 페어 앤 프리지아 코롱 100ml")) {
+			assertThat(Long.bitCount(base ^ ProductDeduplicator.simhash(other)))
+				.as(other)
+				.isGreaterThan(ProductDeduplicator.MAX_DISTANCE);
+		}
+	}
+
+	@Test
+	void linksNewProductToCanonicalWithinPriceTolerance() {
+		ProductRepository repository = mock(ProductRepository.class);
+		when(repository.findCanonicalSignatures()).thenReturn(List.of());
+		ProductDeduplicator deduplicator = new ProductDeduplicator(repository, true, 0.15);
+
+		Product canonical = product(1L, "[쿠팡] 애플 에어팟 프로 2세대 USB-C", 329_000);
+		assertThat(deduplicator.assignCanonical(canonical)).isFalse();
+		assertThat(canonical.getCanonicalId()).isNull();
+
+		Product sameItem = product(null, "애플 에어팟 프로 2세대 USB-C (정품)", 299_000);
+		assertThat(deduplicator.assignCanonical(sameItem)).isTrue();
+		assertThat(sameItem.getCanonicalId()).isEqualTo(1L);
+
+		// 같은 이름이어도 가격 차이가 크면 다른 구성(중고, 묶음 등)으로 보고 따로 둠
+		Product farPrice = product(null, "애플 에어팟 프로 2세대 USB-C", 150_000);
+		assertThat(deduplicator.assignCanonical(farPrice)).isFalse();
+		assertThat(farPrice.getCanonicalId()).isNull();
+	}
+
+	@Test
+	void disabledKeepsEveryProduct() {
+		ProductDeduplicator deduplicator = new ProductDeduplicator(mock(ProductRepository.class), false, 0.15);
+
+		deduplicator.assignCanonical(product(1L, "애플 에어팟 프로 2세대 USB-C", 329_000));
+		Product sameItem = product(null, "애플 에어팟 프로 2세대 USB-C", 329_000);
+
+		assertThat(deduplicator.assignCanonical(sameItem)).isFalse();
+		assertThat(sameItem.getSimhash()).isNotNull();
+	}
+
+	private static Product product(Long id, String title, int price) {
+		Product product = new Product();
+		product.setId(id);
+		product.setTitle(title);
+		product.setPrice(price);
+		return product;
+	}
+}
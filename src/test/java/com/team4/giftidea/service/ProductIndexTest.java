@@ -0,0 +1,189 @@
+package com.team4.giftidea.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.giftidea.dto.ProductSearchCondition;
+import com.team4.giftidea.dto.ProductSort;
+import com.team4.giftidea.entity.Product;
+import com.team4.giftidea.repository.ProductKeywordRepository;
+import com.team4.giftidea.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductIndexTest {
+
+	private static final List<String> KEYWORDS = List.of("향수", "무선이어폰", "남성 지갑");
+
+	@Test
+	void coldIndexReturnsEmpty() {
+		ProductIndex index = new ProductIndex(mock(ProductRepository.class), mock(ProductKeywordRepository.class),
+			new ObjectMapper(), new SimpleMeterRegistry());
+
+		assertThat(index.search(KEYWORDS, Map.of(), 2, ProductSearchCondition.of(10, "price", null, null))).isEmpty();
+	}
+
+	@Test
+	void budgetSliceMatchesBruteForce() {
+		Random random = new Random(7);
+		List<Product> products = new ArrayList<>();
+		List<ProductKeywordRepository.KeywordLink> links = new ArrayList<>();
+		for (long id = 1; id <= 3_000; id++) {
+			Product product = new Product();
+			product.setId(id);
+			product.setProductId("p" + id);
+			product.setTitle("상품 " + id);
+			product.setPrice(1_000 * (1 + random.nextInt(200)));
+			product.setMallName(random.nextBoolean() ? "Coupang" : "Kream");
+			products.add(product);
+			links.add(link(id, KEYWORDS.get(random.nextInt(KEYWORDS.size()))));
+			if (id % 10 == 0) {
+				// 여러 키워드로 수집된 상품
+				links.add(link(id, KEYWORDS.get((int) (id % KEYWORDS.size()))));
+			}
+		}
+		ProductIndex index = buildIndex(products, links);
+
+		for (ProductSort sort : List.of(ProductSort.PRICE, ProductSort.RECENCY, ProductSort.MALL)) {
+			for (int[] range : new int[][] {{0, Integer.MAX_VALUE}, {30_000, 50_000}, {50_000, 50_000}, {300_000, 400_000}}) {
+				List<Product> actual = index.search(List.of("남자 지갑"), Map.of(), 1,
+						new ProductSearchCondition(15, sort, range[0], range[1])).orElseThrow()
+					.stream().map(ProductIndex.Hit::product).toList();
+
+				List<Product> expected = links.stream()
+					.filter(link -> link.getKeyword().equals("남성 지갑"))
+					.map(link -> products.get((int) (link.getProductId() - 1)))
+					.distinct()
+					.filter(product -> product.getPrice() >= range[0] && product.getPrice() <= range[1])
+					.sorted(sort.comparator())
+					.limit(15)
+					.toList();
+				assertThat(actual).as("%s %d~%d", sort, range[0], range[1]).containsExactlyElementsOf(expected);
+			}
+		}
+	}
+
+	@Test
+	void relevanceRanksByReasonWithinBudget() {
+		List<Product> products = List.of(
+			product(1, "무선 블루투스 키보드", 30_000),
+			product(2, "샤넬 향수 50ml", 150_000),
+			product(3, "조말론 향수 우드 세이지", 120_000),
+			product(4, "디올 소바쥬 남성 향수", 90_000));
+		List<ProductKeywordRepository.KeywordLink> links = List.of(
+			link(1, "키보드"), link(2, "향수"), link(3, "향수"), link(4, "향수"));
+		ProductIndex index = buildIndex(products, links);
+
+		List<Product> ranked = index.search(List.of("향수"), Map.of("향수", "평소 조말론 우드 세이지 향을 좋아한다고 함"), 2,
+			ProductSearchCondition.of(3, "relevance", null, null)).orElseThrow()
+			.stream().map(ProductIndex.Hit::product).toList();
+		assertThat(ranked).hasSize(3).first().isSameAs(products.get(2));
+
+		List<Product> budget = index.search(List.of("향수"), Map.of("향수", "조말론 우드 세이지"), 2,
+			ProductSearchCondition.of(3, "relevance", 0, 100_000)).orElseThrow()
+			.stream().map(ProductIndex.Hit::product).toList();
+		assertThat(budget).containsExactly(products.get(3));
+	}
+
+	@Test
+	void duplicatesCollapseIntoCanonical() throws Exception {
+		Product canonical = product(1, "애플 에어팟 프로 2세대 USB-C", 329_000);
+		Product alternate = product(2, "[무료배송] 애플 에어팟 프로 2세대 USB-C", 319_000);
+		alternate.setCanonicalId(1L);
+		Product other = product(3, "애플 에어팟 3세대", 239_000);
+		ProductIndex index = buildIndex(List.of(canonical, alternate, other),
+			List.of(link(1, "무선이어폰"), link(2, "무선이어폰"), link(2, "이어폰"), link(3, "무선이어폰")));
+
+		assertThat(index.search(List.of("무선이어폰"), Map.of(), 2, ProductSearchCondition.of(10, "price", null, null))
+			.orElseThrow().stream().map(ProductIndex.Hit::product).toList())
+			.containsExactly(other, canonical);
+		// 대체 판매처에만 연결된 키워드로도 대표 상품이 검색됨
+		assertThat(index.search(List.of("이어폰"), Map.of(), 1, ProductSearchCondition.of(10, "price", null, null))
+			.orElseThrow().stream().map(ProductIndex.Hit::product).toList())
+			.containsExactly(canonical);
+
+		// 대표 상품 카드에 대체 판매처를 포함한 최저가와 판매처 수가 표시됨
+		List<ProductIndex.Hit> hits = index.search(List.of("무선이어폰"), Map.of(), 2,
+			ProductSearchCondition.of(10, "price", null, null)).orElseThrow();
+		JsonNode canonicalCard = new ObjectMapper().readTree(hits.get(1).card().toString());
+		assertThat(canonicalCard.get("price").asInt()).isEqualTo(329_000);
+		assertThat(canonicalCard.get("minPrice").asInt()).isEqualTo(319_000);
+		assertThat(canonicalCard.get("offerCount").asInt()).isEqualTo(2);
+		JsonNode otherCard = new ObjectMapper().readTree(hits.get(0).card().toString());
+		assertThat(otherCard.get("minPrice").asInt()).isEqualTo(239_000);
+		assertThat(otherCard.get("offerCount").asInt()).isEqualTo(1);
+	}
+
+	@Test
+	void browsePagesByCursorAndVersionFollowsContent() {
+		List<Product> products = new ArrayList<>();
+		List<ProductKeywordRepository.KeywordLink> links = new ArrayList<>();
+		for (long id = 1; id <= 45; id++) {
+			products.add(product(id, "텀블러 " + id, 10_000 + (int) id));
+			links.add(link(id, id % 3 == 0 ? "향수" : "텀블러"));
+		}
+		ProductIndex index = buildIndex(products, links);
+
+		List<Long> seen = new ArrayList<>();
+		Long cursor = null;
+		do {
+			ProductIndex.CatalogPage page = index.browse("텀블러", cursor, 7).orElseThrow();
+			assertThat(page.keyword()).isEqualTo("텀블러");
+			page.hits().forEach(hit -> seen.add(hit.product().getId()));
+			cursor = page.nextCursor();
+		} while (cursor != null);
+		List<Long> expected = products.stream().map(Product::getId).filter(id -> id % 3 != 0)
+			.sorted(Comparator.reverseOrder()).toList();
+		assertThat(seen).containsExactlyElementsOf(expected);
+
+		String version = index.browse("텀블러", null, 7).orElseThrow().version();
+		assertThat(buildIndex(products, links).browse("텀블러", null, 7).orElseThrow().version()).isEqualTo(version);
+		products.get(0).setPrice(99_000);
+		assertThat(buildIndex(products, links).browse("텀블러", null, 7).orElseThrow().version()).isNotEqualTo(version);
+		assertThat(index.browse("없는 키워드", null, 7).orElseThrow().hits()).isEmpty();
+	}
+
+	private static Product product(long id, String title, int price) {
+		Product product = new Product();
+		product.setId(id);
+		product.setProductId("p" + id);
+		product.setTitle(title);
+		product.setPrice(price);
+		product.setMallName("Coupang");
+		return product;
+	}
+
+	private static ProductIndex buildIndex(List<Product> products, List<ProductKeywordRepository.KeywordLink> links) {
+		ProductRepository productRepository = mock(ProductRepository.class);
+		ProductKeywordRepository productKeywordRepository = mock(ProductKeywordRepository.class);
+		when(productRepository.findByExpiredAtIsNull()).thenReturn(products);
+		when(productKeywordRepository.findAllLinks()).thenReturn(links);
+		ProductIndex index = new ProductIndex(productRepository, productKeywordRepository, new ObjectMapper(),
+			new SimpleMeterRegistry());
+		index.rebuild();
+		return index;
+	}
+
+	private static ProductKeywordRepository.KeywordLink link(long productId, String keyword) {
+		return new ProductKeywordRepository.KeywordLink() {
+			@Override
+			public Long getProductId() {
+				return productId;
+			}
+
+			@Override
+			public String getKeyword() {
+				return keyword;
+			}
+		};
+	}
+}
@@ -0,0 +1,119 @@
+package com.team4.giftidea.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.giftidea.entity.Keyword;
+import com.team4.giftidea.entity.Product;
+import com.team4.giftidea.repository.KeywordRepository;
+import com.team4.giftidea.repository.ProductBulkRepository;
+import com.team4.giftidea.repository.ProductBulkRepository.ProductRef;
+import com.team4.giftidea.repository.ProductKeywordRepository;
+import com.team4.giftidea.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ProductServiceTest {
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void upsertsWholeBatchWithoutPerProductQueries() {
+		ProductRepository productRepository = mock(ProductRepository.class);
+		when(productRepository.findCanonicalSignatures()).thenReturn(List.of());
+		KeywordRepository keywordRepository = mock(KeywordRepository.class);
+		Keyword keyword = new Keyword("운동화");
+		keyword.setId(7L);
+		when(keywordRepository.findByName("운동화")).thenReturn(Optional.of(keyword));
+		ProductBulkRepository bulkRepository = mock(ProductBulkRepository.class);
+		ProductDeduplicator deduplicator = new ProductDeduplicator(productRepository, true, 0.15);
+		ProductService service = new ProductService(productRepository, keywordRepository,
+			mock(ProductKeywordRepository.class), bulkRepository, mock(ProductIndex.class), deduplicator,
+			new ObjectMapper());
+
+		// 기존 상품 2개(가격 변경, 변경 없음), 신규 상품 2개(같은 상품, 다른 판매처)
+		Product same = product("same", "조말론 잉글리쉬 페어 앤 프리지아 코롱 100ml", 180_000);
+		when(bulkRepository.findRefs(anyCollection())).thenReturn(
+			Map.of(
+				"old", new ProductRef(1L, "old", 10_000, null, 42L, false),
+				"same", new ProductRef(4L, "same", 180_000, null, ProductService.fingerprint(same), false)),
+			Map.of(
+				"new-a", new ProductRef(2L, "new-a", 99_000, null, null, false),
+				"new-b", new ProductRef(3L, "new-b", 95_000, 2L, null, false)));
+
+		service.upsertItems(List.of(
+			product("old", "아디다스 삼바 OG 블랙 B75807", 12_000),
+			product("new-a", "나이키 에어포스 1 07 화이트 CW2288-111", 99_000),
+			same,
+			product("new-b", "[무료배송] 나이키 에어포스 1 07 화이트 CW2288-111", 95_000),
+			product("new-a", "나이키 에어포스 1 07 화이트 CW2288-111", 99_000)), "운동화");
+
+		// 내용이 바뀐 상품과 신규 상품만 쓰고, 바뀌지 않은 상품은 수집 시각만 갱신
+		ArgumentCaptor<Collection<Product>> upserted = ArgumentCaptor.forClass(Collection.class);
+		verify(bulkRepository, times(1)).upsert(upserted.capture());
+		assertThat(upserted.getValue()).extracting(Product::getProductId).containsExactly("old", "new-a", "new-b");
+		assertThat(upserted.getValue()).allSatisfy(product -> {
+			assertThat(product.getFingerprint()).isEqualTo(ProductService.fingerprint(product));
+			assertThat(product.getLastSeenAt()).isNotNull();
+		});
+		verify(bulkRepository).touch(eq(List.of(4L)), any());
+		verify(bulkRepository).linkCanonical(Map.of("new-b", "new-a"));
+		verify(bulkRepository).updateLinkPrices(Map.of(1L, 12_000));
+		ArgumentCaptor<Collection<Long>> linked = ArgumentCaptor.forClass(Collection.class);
+		verify(bulkRepository).insertLinks(linked.capture(), eq(7L));
+		assertThat(linked.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+		verify(bulkRepository, times(2)).findRefs(anyCollection());
+		verify(keywordRepository, times(0)).save(any());
+
+		// 새 대표 상품은 저장 후 id로 중복 판별 색인에 등록
+		assertThat(deduplicator.findCanonical(ProductDeduplicator.simhash("나이키 에어포스1 07 화이트 CW2288-111"), 98_000))
+			.contains(2L);
+	}
+
+	@Test
+	void fingerprintFollowsCrawledContent() {
+		Product product = product("p", "애플 에어팟 프로 2세대 USB-C", 329_000);
+		long fingerprint = ProductService.fingerprint(product);
+
+		product.setKeyword("무선이어폰");
+		product.setSimhash(1L);
+		assertThat(ProductService.fingerprint(product)).isEqualTo(fingerprint);
+
+		product.setPrice(299_000);
+		assertThat(ProductService.fingerprint(product)).isNotEqualTo(fingerprint);
+	}
+
+	@Test
+	void emptyBatchTouchesNothing() {
+		ProductBulkRepository bulkRepository = mock(ProductBulkRepository.class);
+		KeywordRepository keywordRepository = mock(KeywordRepository.class);
+		ProductService service = new ProductService(mock(ProductRepository.class), keywordRepository,
+			mock(ProductKeywordRepository.class), bulkRepository, mock(ProductIndex.class),
+			mock(ProductDeduplicator.class), new ObjectMapper());
+
+		service.upsertItems(List.of(), "운동화");
+
+		verifyNoInteractions(bulkRepository, keywordRepository);
+	}
+
+	private static Product product(String productId, String title, int price) {
+		Product product = new Product();
+		product.setProductId(productId);
+		product.setTitle(title);
+		product.setPrice(price);
+		product.setMallName("coupang");
+		return product;
+	}
+}
@@ -0,0 +1,27 @@
+package com.team4.giftidea.service;
+
+import com.team4.giftidea.entity.Product;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductVectorIndexTest {
+
+	@Test
+	void similarTextScoresHigher() {
+		Product[] products = {product("노이즈캔슬링 무선 블루투스 이어폰"), product("스테인리스 보온 텀블러 500ml")};
+		ProductVectorIndex index = new ProductVectorIndex(products);
+		float[] query = new float[ProductVectorIndex.DIMENSIONS];
+		ProductVectorIndex.embed("출퇴근길에 노이즈캔슬링 이어폰이 필요하다고 함", query);
+
+		assertThat(index.topK(new int[] {1, 0}, 0, 2, query, 2, null)).containsExactly(0, 1);
+		assertThat(index.topK(new int[] {1, 0}, 0, 2, query, 1, null)).containsExactly(0);
+		assertThat(index.topK(new int[] {1, 0}, 0, 2, query, 2, row -> row == 1)).containsExactly(1);
+	}
+
+	private static Product product(String title) {
+		Product product = new Product();
+		product.setTitle(title);
+		return product;
+	}
+}
@@ -0,0 +1,97 @@
+package com.team4.giftidea.service;
+
+import com.team4.giftidea.configuration.PromptProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PromptTemplateRegistryTest {
+
+	private static final String[] RELATIONS = {"couple", "parent", "friend", "coworker", null};
+	private static final String[] SEXES = {"male", "female", "other", null};
+	private static final String[] THEMES = {"birthday", "housewarming", "valentine", null};
+
+	@Test
+	void resolvesSameTemplatesAsLegacyIfChain() throws IOException {
+		PromptProperties properties = loadPrompts();
+		PromptTemplateRegistry registry = new PromptTemplateRegistry(properties);
+
+		for (String relation : RELATIONS) {
+			for (String sex : SEXES) {
+				for (String theme : THEMES) {
+					Integer expected = legacyTemplateIndex(relation, sex, theme);
+					String actual = registry.find(relation, sex, theme)
+						.map(template -> template.render(theme, "대화"))
+						.orElse(null);
+					String expectedPrompt = expected == null ? null : render(properties, expected, theme);
+					assertThat(actual)
+						.as("relation=%s, sex=%s, theme=%s", relation, sex, theme)
+						.isEqualTo(expectedPrompt);
+				}
+			}
+		}
+	}
+
+	@Test
+	void relationWithOwnTemplatesDoesNotFallThroughToThemeTemplates() throws IOException {
+		PromptTemplateRegistry registry = new PromptTemplateRegistry(loadPrompts());
+
+		assertThat(registry.find("couple", "other", "housewarming")).isEmpty();
+		assertThat(registry.find("coworker", "other", "housewarming")).isPresent();
+	}
+
+	/**
+	 * 기존 GptController.generatePrompt의 if 분기 (prompts.yml 템플릿 순서의 인덱스로 반환)
+	 */
+	private static Integer legacyTemplateIndex(String relation, String sex, String theme) {
+		if ("couple".equals(relation)) {
+			if ("male".equals(sex)) {
+				return 0;
+			} else if ("female".equals(sex)) {
+				return 1;
+			}
+		} else if ("parent".equals(relation)) {
+			if ("male".equals(sex)) {
+				return 2;
+			} else if ("female".equals(sex)) {
+				return 3;
+			}
+		} else if ("friend".equals(relation)) {
+			return 4;
+		} else if ("housewarming".equals(theme)) {
+			return 5;
+		} else if ("valentine".equals(theme)) {
+			if ("male".equals(sex)) {
+				return 6;
+			} else if ("female".equals(sex)) {
+				return 7;
+			}
+		}
+		return null;
+	}
+
+	private static String render(PromptProperties properties, int index, String theme) {
+		PromptProperties.Template template = properties.getTemplates().get(index);
+		return PromptTemplate.compile(properties.getCommon() + "\n" + template.getBody() + properties.getSuffix())
+			.render(theme, "대화");
+	}
+
+	private static PromptProperties loadPrompts() throws IOException {
+		List<org.springframework.core.env.PropertySource<?>> sources =
+			new YamlPropertySourceLoader().load("prompts", new ClassPathResource("prompts.yml"));
+		PromptProperties properties = new Binder(ConfigurationPropertySources.from(sources))
+			.bind("openai.prompt", PromptProperties.class)
+			.get();
+		assertThat(properties.getTemplates()).extracting(PromptProperties.Template::getRelation)
+			.containsExactlyElementsOf(Arrays.asList("couple", "couple", "parent", "parent", "friend", null, null, null));
+		return properties;
+	}
+}
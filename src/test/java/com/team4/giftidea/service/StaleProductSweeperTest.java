@@ -0,0 +1,79 @@
+package com.team4.giftidea.service;
+
+import com.team4.giftidea.entity.CrawlRun;
+import com.team4.giftidea.repository.CrawlRunRepository;
+import com.team4.giftidea.repository.ProductBulkRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class StaleProductSweeperTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 10, 1, 5);
+
+	private final CrawlRunRepository crawlRunRepository = mock(CrawlRunRepository.class);
+	private final ProductBulkRepository productBulkRepository = mock(ProductBulkRepository.class);
+	private final ProductDeduplicator productDeduplicator = mock(ProductDeduplicator.class);
+
+	@Test
+	void expiresProductsNotSeenInLastCompleteCrawls() {
+		when(crawlRunRepository.findRecentComplete(any())).thenReturn(List.of(
+			run(NOW), run(NOW.minusDays(1)), run(NOW.minusDays(2))));
+		when(productBulkRepository.expireUnseenSince(any(), any())).thenReturn(5);
+		StaleProductSweeper sweeper = new StaleProductSweeper(crawlRunRepository, productBulkRepository,
+			productDeduplicator, true, 3);
+
+		int expired = sweeper.afterCrawl(report(NOW, null));
+
+		// 세 번째로 최근인 성공한 크롤링 시작 이후 한 번도 수집되지 않은 상품만 만료
+		assertThat(expired).isEqualTo(5);
+		verify(productBulkRepository).expireUnseenSince(eq(NOW.minusDays(2)), any());
+		verify(productDeduplicator).invalidate();
+		ArgumentCaptor<CrawlRun> saved = ArgumentCaptor.forClass(CrawlRun.class);
+		verify(crawlRunRepository).save(saved.capture());
+		assertThat(saved.getValue().isComplete()).isTrue();
+		assertThat(saved.getValue().getProducts()).isEqualTo(2);
+		assertThat(saved.getValue().getFinishedAt()).isEqualTo(NOW.plusSeconds(1));
+	}
+
+	@Test
+	void waitsForEnoughCompleteCrawls() {
+		when(crawlRunRepository.findRecentComplete(any())).thenReturn(List.of(run(NOW), run(NOW.minusDays(1))));
+		StaleProductSweeper sweeper = new StaleProductSweeper(crawlRunRepository, productBulkRepository,
+			productDeduplicator, true, 3);
+
+		assertThat(sweeper.afterCrawl(report(NOW, "timeout"))).isZero();
+
+		// 실패한 키워드가 있는 크롤링은 기록만 남기고 만료 판단에 쓰지 않음
+		ArgumentCaptor<CrawlRun> saved = ArgumentCaptor.forClass(CrawlRun.class);
+		verify(crawlRunRepository).save(saved.capture());
+		assertThat(saved.getValue().isComplete()).isFalse();
+		assertThat(saved.getValue().getFailures()).isEqualTo(1);
+		verify(productBulkRepository, never()).expireUnseenSince(any(), any());
+		verifyNoInteractions(productDeduplicator);
+	}
+
+	private static CrawlScheduler.CrawlReport report(LocalDateTime startedAt, String error) {
+		return new CrawlScheduler.CrawlReport(startedAt, 1_000, List.of(
+			new CrawlScheduler.KeywordTiming("coupang", "무선이어폰", 2, 0, 900, 100, null),
+			new CrawlScheduler.KeywordTiming("kream", "향수", 0, 0, 900, 0, error)));
+	}
+
+	private static CrawlRun run(LocalDateTime startedAt) {
+		CrawlRun run = new CrawlRun();
+		run.setStartedAt(startedAt);
+		run.setComplete(true);
+		return run;
+	}
+}
@@ -0,0 +1,62 @@
+package com.team4.giftidea.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenCounterTest {
+
+	private final TokenCounter tokenCounter = new TokenCounter("gpt-4o");
+
+	@Test
+	void koreanTextCostsMoreThanWordCount() {
+		String line = "다음주 생일인데 무선이어폰 고장나서 새로 사고 싶다고 했었지";
+
+		assertThat(tokenCounter.count(line)).isGreaterThan(ChatLineNormalizer.countTokens(line));
+		assertThat(tokenCounter.count("")).isZero();
+	}
+
+	@Test
+	void unknownModelFallsBackToWordCount() {
+		TokenCounter fallback = new TokenCounter("unknown-model");
+
+		assertThat(fallback.count("향수 사고 싶다")).isEqualTo(3);
+	}
+
+	@Test
+	void cachedCountsMatchFirstCount() {
+		List<String> lines = sampleLines(5_000);
+		long words = 0;
+		long bpe = 0;
+		for (String line : lines) {
+			int first = tokenCounter.count(line);
+			assertThat(tokenCounter.count(line)).isEqualTo(first);
+			words += ChatLineNormalizer.countTokens(line);
+			bpe += first;
+		}
+		assertThat(bpe).isGreaterThan(words);
+	}
+
+	private static List<String> sampleLines(int count) {
+		String[] words = {"응", "ㅇㅇ", "오늘", "향수", "사고싶다", "무선이어폰", "고장났어", "다음주에", "생일이야",
+			"진짜", "대박", "회사", "끝나고", "저녁", "먹자", "스마트워치", "갖고", "싶어"};
+		Random random = new Random(11);
+		List<String> lines = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			StringBuilder sb = new StringBuilder();
+			int wordCount = 1 + random.nextInt(random.nextInt(4) == 0 ? 12 : 2);
+			for (int w = 0; w < wordCount; w++) {
+				if (w > 0) {
+					sb.append(' ');
+				}
+				sb.append(words[random.nextInt(words.length)]);
+			}
+			lines.add(sb.toString());
+		}
+		return lines;
+	}
+}
@@ -0,0 +1,107 @@
+package com.team4.giftidea.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class WebDriverPoolTest {
+
+	private final List<WebDriver> created = new ArrayList<>();
+
+	@Test
+	void reusesWarmDriverAndRecyclesAfterMaxUses() {
+		WebDriverPool pool = pool(2, 3);
+
+		WebDriver first;
+		try (WebDriverPool.Lease lease = pool.lease()) {
+			first = lease.driver();
+		}
+		for (int i = 0; i < 2; i++) {
+			try (WebDriverPool.Lease lease = pool.lease()) {
+				assertThat(lease.driver()).isSameAs(first);
+			}
+		}
+		verify(first).quit();
+
+		try (WebDriverPool.Lease lease = pool.lease()) {
+			assertThat(lease.driver()).isNotSameAs(first);
+		}
+		assertThat(created).hasSize(2);
+	}
+
+	@Test
+	void discardsCrashedDriver() {
+		WebDriverPool pool = pool(1, 10);
+
+		WebDriver crashed;
+		try (WebDriverPool.Lease lease = pool.lease()) {
+			crashed = lease.driver();
+			lease.invalidate();
+		}
+		verify(crashed).quit();
+
+		WebDriver dead;
+		try (WebDriverPool.Lease lease = pool.lease()) {
+			dead = lease.driver();
+		}
+		// 쉬는 동안 브라우저가 죽은 경우 빌려줄 때 확인하여 새로 만듦
+		doThrow(new WebDriverException("chrome not reachable")).when(dead).getWindowHandle();
+		try (WebDriverPool.Lease lease = pool.lease()) {
+			assertThat(lease.driver()).isNotSameAs(dead);
+		}
+		verify(dead).quit();
+		assertThat(created).hasSize(3);
+	}
+
+	@Test
+	void capsConcurrentDrivers() {
+		WebDriverPool pool = pool(2, 10);
+
+		try (WebDriverPool.Lease a = pool.lease(); WebDriverPool.Lease b = pool.lease()) {
+			assertThat(pool.leasedCount()).isEqualTo(2);
+			assertThatThrownBy(pool::lease).isInstanceOf(IllegalStateException.class);
+			assertThat(a.driver()).isNotSameAs(b.driver());
+		}
+		assertThat(pool.idleCount()).isEqualTo(2);
+
+		pool.shutdown();
+		created.forEach(driver -> verify(driver).quit());
+	}
+
+	@Test
+	void evictsIdleDrivers() {
+		WebDriverPool pool = new WebDriverPool(this::newDriver, 1, 10, Duration.ofMillis(50), Duration.ZERO,
+			new SimpleMeterRegistry());
+		try (WebDriverPool.Lease lease = pool.lease()) {
+			verify(lease.driver(), never()).quit();
+		}
+
+		pool.evictIdle();
+
+		assertThat(pool.idleCount()).isZero();
+		verify(created.get(0)).quit();
+	}
+
+	private WebDriverPool pool(int capacity, int maxUses) {
+		return new WebDriverPool(this::newDriver, capacity, maxUses, Duration.ofMillis(50), Duration.ofMinutes(10),
+			new SimpleMeterRegistry());
+	}
+
+	private WebDriver newDriver() {
+		WebDriver driver = mock(WebDriver.class);
+		created.add(driver);
+		return driver;
+	}
+}